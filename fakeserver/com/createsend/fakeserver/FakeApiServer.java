@@ -0,0 +1,931 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.fakeserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A stand-in for the Campaign Monitor API, for load and latency testing the wrapper
+ * without the real API.
+ *
+ * It answers the v3.3 routes the wrapper calls for lists, subscribers, segments, campaigns
+ * and transactional email. Paged results and the transactional timeline are read from
+ * synthetic datasets, generated from each record's index, so datasets of millions of records
+ * cost nothing to hold. Writes are acknowledged but not stored, except that each transactional
+ * message sent is added to the end of the timeline.
+ *
+ * Every request is delayed by a configurable {@link LatencyDistribution}, and a configurable
+ * fraction of requests fail with 429 Too Many Requests or 500 Internal Server Error. The
+ * randomness for each request is seeded from the server's seed and the request's number,
+ * so a run which makes the same requests in the same order sees the same delays and failures.
+ *
+ * To point the wrapper at a server:
+ * <pre>
+ * FakeApiServer server = new FakeApiServer(0);
+ * server.setLatency(LatencyDistribution.logNormal(40, 0.5));
+ * server.setRateLimitRate(0.01);
+ * server.start();
+ * Configuration.Current.setApiEndpoint(server.getEndpoint());
+ * </pre>
+ */
+public class FakeApiServer implements Closeable {
+    private static final String API_PATH = "/api/v3.3/";
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_TIMELINE_COUNT = 200;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final JsonFactory jsonFactory = mapper.getFactory();
+
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private volatile LatencyDistribution latency = LatencyDistribution.none();
+    private volatile double rateLimitRate;
+    private volatile double serverErrorRate;
+    private volatile int retryAfter;
+    private volatile int recordCount = 1000000;
+    private volatile long seed = 42;
+
+    private final AtomicLong messageCount = new AtomicLong(1000000);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+
+    /**
+     * @param port The port to listen on, or 0 for any free port
+     */
+    public FakeApiServer(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Starts listening on the loopback interface.
+     * @throws IOException If the port could not be bound
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("The server has already been started");
+        }
+
+        executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "fake-api-server-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", new Handler());
+        server.start();
+    }
+
+    /**
+     * Stops the server, abandoning any requests in progress.
+     */
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The API endpoint to configure the wrapper with, such as
+     * <code>http://127.0.0.1:54321/api/v3.3/</code>.
+     */
+    public synchronized String getEndpoint() {
+        if (server == null) {
+            throw new IllegalStateException("The server has not been started");
+        }
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort() + API_PATH;
+    }
+
+    /**
+     * @param latency The distribution of the delay added before answering each request
+     */
+    public void setLatency(LatencyDistribution latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * @param rate The fraction of requests, between 0 and 1, answered with 429 Too Many Requests
+     */
+    public void setRateLimitRate(double rate) {
+        this.rateLimitRate = checkRate(rate);
+    }
+
+    /**
+     * @param rate The fraction of requests, between 0 and 1, answered with 500 Internal Server Error
+     */
+    public void setServerErrorRate(double rate) {
+        this.serverErrorRate = checkRate(rate);
+    }
+
+    /**
+     * @param seconds The Retry-After header to send with 429 responses, or 0 to send none
+     */
+    public void setRetryAfter(int seconds) {
+        this.retryAfter = seconds;
+    }
+
+    /**
+     * @param count The number of records in every paged dataset, such as the active subscribers
+     * of a list or the opens of a campaign. Defaults to one million.
+     */
+    public void setRecordCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Record count must not be negative");
+        }
+        this.recordCount = count;
+    }
+
+    /**
+     * @param count The number of messages in the transactional timeline before any are sent.
+     * Defaults to one million.
+     */
+    public void setMessageCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Message count must not be negative");
+        }
+        messageCount.set(count);
+    }
+
+    /**
+     * @param seed The seed from which the randomness of each request is derived
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return The number of requests received, including those failed deliberately.
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return The number of requests answered with 429 Too Many Requests.
+     */
+    public long getRateLimitedCount() {
+        return rateLimited.get();
+    }
+
+    /**
+     * @return The number of requests answered with 500 Internal Server Error.
+     */
+    public long getServerErrorCount() {
+        return serverErrors.get();
+    }
+
+    /**
+     * @return The number of messages in the transactional timeline.
+     */
+    public long getMessageCount() {
+        return messageCount.get();
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1");
+        }
+        return rate;
+    }
+
+    private class Handler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                long number = requests.incrementAndGet();
+                SplittableRandom random = new SplittableRandom(seed + number * 0x9E3779B97F4A7C15L);
+                delay(latency.nextDelay(random));
+
+                double fault = random.nextDouble();
+                if (fault < rateLimitRate) {
+                    rateLimited.incrementAndGet();
+                    if (retryAfter > 0) {
+                        exchange.getResponseHeaders().set("Retry-After", Integer.toString(retryAfter));
+                    }
+                    error(exchange, 429, 429, "Rate limit exceeded");
+                } else if (fault < rateLimitRate + serverErrorRate) {
+                    serverErrors.incrementAndGet();
+                    error(exchange, 500, 500, "Internal server error");
+                } else if (exchange.getRequestHeaders().getFirst("Authorization") == null) {
+                    error(exchange, 401, 50, "Must supply a valid HTTP Basic Authorization header");
+                } else {
+                    route(exchange);
+                }
+            } catch (RuntimeException e) {
+                if (exchange.getResponseCode() == -1) {
+                    error(exchange, 500, 500, String.valueOf(e));
+                }
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    private static void delay(long nanos) {
+        long end = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = end - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getRawPath();
+        if (!path.startsWith(API_PATH)) {
+            notFound(exchange);
+            return;
+        }
+
+        String[] segments = path.substring(API_PATH.length()).split("/");
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = decode(segments[i]);
+        }
+
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String method = exchange.getRequestMethod();
+        switch (segments[0]) {
+            case "systemdate.json":
+                Map<String, Object> date = new LinkedHashMap<String, Object>();
+                date.put("SystemDate", SyntheticData.subscriberDate(
+                    (System.currentTimeMillis() - SyntheticData.EPOCH_MILLIS) / 60000));
+                respond(exchange, 200, date);
+                break;
+            case "lists":
+                lists(exchange, method, segments, query);
+                break;
+            case "segments":
+                segments(exchange, method, segments, query);
+                break;
+            case "subscribers":
+                subscribers(exchange, method, segments, query);
+                break;
+            case "campaigns":
+                campaigns(exchange, method, segments, query);
+                break;
+            case "transactional":
+                transactional(exchange, method, segments, query);
+                break;
+            default:
+                notFound(exchange);
+        }
+    }
+
+    private void lists(HttpExchange exchange, String method, String[] segments, Map<String, String> query)
+        throws IOException {
+        if (segments.length == 2) {
+            String listID = stripJson(segments[1]);
+            if (method.equals("GET")) {
+                Map<String, Object> list = new LinkedHashMap<String, Object>();
+                list.put("ListID", listID);
+                list.put("Title", "List " + listID);
+                list.put("UnsubscribePage", "");
+                list.put("ConfirmedOptIn", false);
+                list.put("ConfirmationSuccessPage", "");
+                list.put("UnsubscribeSetting", "AllClientLists");
+                respond(exchange, 200, list);
+            } else if (method.equals("POST")) {
+                respond(exchange, 201, newID());
+            } else {
+                ok(exchange);
+            }
+            return;
+        }
+
+        if (segments.length != 3) {
+            writeOrNotFound(exchange, method);
+            return;
+        }
+
+        String listID = segments[1];
+        String resource = stripJson(segments[2]);
+        if (!method.equals("GET")) {
+            if (method.equals("POST")) {
+                respond(exchange, 201, resource.equals("customfields") ?
+                    "[" + readBody(exchange).path("FieldName").asText() + "]" : newID());
+            } else {
+                ok(exchange);
+            }
+            return;
+        }
+
+        switch (resource) {
+            case "active":
+                page(exchange, query, SyntheticData.subscribers(listID, "Active"));
+                break;
+            case "unconfirmed":
+                page(exchange, query, SyntheticData.subscribers(listID, "Unconfirmed"));
+                break;
+            case "unsubscribed":
+                page(exchange, query, SyntheticData.subscribers(listID, "Unsubscribed"));
+                break;
+            case "deleted":
+                page(exchange, query, SyntheticData.subscribers(listID, "Deleted"));
+                break;
+            case "bounced":
+                page(exchange, query, SyntheticData.subscribers(listID, "Bounced"));
+                break;
+            case "stats":
+                respond(exchange, 200, listStatistics());
+                break;
+            case "customfields":
+            case "segments":
+            case "webhooks":
+                respond(exchange, 200, new ArrayList<Object>());
+                break;
+            default:
+                notFound(exchange);
+        }
+    }
+
+    private void segments(HttpExchange exchange, String method, String[] segments, Map<String, String> query)
+        throws IOException {
+        if (method.equals("GET") && segments.length == 3 && segments[2].equals("active.json")) {
+            page(exchange, query, SyntheticData.subscribers(segments[1], "Active"));
+        } else {
+            writeOrNotFound(exchange, method);
+        }
+    }
+
+    private void subscribers(HttpExchange exchange, String method, String[] segments, Map<String, String> query)
+        throws IOException {
+        String listID = stripJson(segments.length > 1 ? segments[1] : "");
+        if (segments.length == 2) {
+            if (method.equals("GET")) {
+                long index = SyntheticData.subscriberIndex(query.get("email"));
+                if (index < 0 || index >= recordCount) {
+                    error(exchange, 400, 203, "Subscriber not in list or has already been removed");
+                    return;
+                }
+                record(exchange, index, SyntheticData.subscribers(listID, "Active"));
+            } else if (method.equals("POST")) {
+                JsonNode subscriber = readBody(exchange);
+                respond(exchange, 201, subscriber.path("EmailAddress").asText());
+            } else {
+                ok(exchange);
+            }
+        } else if (segments.length == 3 && segments[2].equals("import.json") && method.equals("POST")) {
+            int submitted = readBody(exchange).path("Subscribers").size();
+            Map<String, Object> result = new LinkedHashMap<String, Object>();
+            result.put("FailureDetails", new ArrayList<Object>());
+            result.put("TotalUniqueEmailsSubmitted", submitted);
+            result.put("TotalExistingSubscribers", 0);
+            result.put("TotalNewSubscribers", submitted);
+            result.put("DuplicateEmailsInSubmission", new ArrayList<Object>());
+            respond(exchange, 201, result);
+        } else if (segments.length == 3 && segments[2].equals("history.json") && method.equals("GET")) {
+            respond(exchange, 200, new ArrayList<Object>());
+        } else {
+            writeOrNotFound(exchange, method);
+        }
+    }
+
+    private void campaigns(HttpExchange exchange, String method, String[] segments, Map<String, String> query)
+        throws IOException {
+        if (segments.length != 3 || !method.equals("GET")) {
+            if (method.equals("POST") && segments.length == 2) {
+                respond(exchange, 201, newID());
+            } else {
+                writeOrNotFound(exchange, method);
+            }
+            return;
+        }
+
+        String campaignID = segments[1];
+        String listID = "list-of-" + campaignID;
+        switch (stripJson(segments[2])) {
+            case "recipients":
+                page(exchange, query, SyntheticData.subscribers(listID, "Active"));
+                break;
+            case "unsubscribes":
+                page(exchange, query, SyntheticData.subscribers(listID, "Unsubscribed"));
+                break;
+            case "spam":
+                page(exchange, query, SyntheticData.subscribers(listID, "Active"));
+                break;
+            case "bounces":
+                page(exchange, query, SyntheticData.bounces(listID));
+                break;
+            case "opens":
+                page(exchange, query, SyntheticData.campaignEvents(listID, false));
+                break;
+            case "clicks":
+                page(exchange, query, SyntheticData.campaignEvents(listID, true));
+                break;
+            case "summary":
+                Map<String, Object> summary = new LinkedHashMap<String, Object>();
+                summary.put("Name", "Campaign " + campaignID);
+                summary.put("Recipients", recordCount);
+                summary.put("TotalOpened", recordCount);
+                summary.put("Clicks", recordCount);
+                summary.put("Unsubscribed", recordCount);
+                summary.put("SpamComplaints", recordCount);
+                summary.put("Bounced", recordCount);
+                summary.put("UniqueOpened", recordCount);
+                summary.put("Forwards", 0);
+                summary.put("Mentions", 0);
+                summary.put("Likes", 0);
+                summary.put("WebVersionURL", "https://example.com/t/" + campaignID);
+                summary.put("WebVersionTextURL", "https://example.com/t/" + campaignID + "/text");
+                summary.put("WorldviewURL", "https://example.com/reports/" + campaignID);
+                respond(exchange, 200, summary);
+                break;
+            case "emailclientusage":
+                respond(exchange, 200, new ArrayList<Object>());
+                break;
+            case "listsandsegments":
+                Map<String, Object> listsAndSegments = new LinkedHashMap<String, Object>();
+                listsAndSegments.put("Lists", new ArrayList<Object>());
+                listsAndSegments.put("Segments", new ArrayList<Object>());
+                respond(exchange, 200, listsAndSegments);
+                break;
+            default:
+                notFound(exchange);
+        }
+    }
+
+    private void transactional(HttpExchange exchange, String method, String[] segments, Map<String, String> query)
+        throws IOException {
+        String resource = segments.length > 1 ? segments[1] : "";
+        if (resource.equals("smartEmail")) {
+            if (segments.length == 2 && method.equals("GET")) {
+                List<Object> smartEmails = new ArrayList<Object>();
+                for (int i = 0; i < 3; i++) {
+                    Map<String, Object> item = new LinkedHashMap<String, Object>();
+                    item.put("ID", SyntheticData.smartEmailID(i).toString());
+                    item.put("Name", "Smart Email " + i);
+                    item.put("CreatedAt", SyntheticData.messageDate(i));
+                    item.put("Status", "active");
+                    smartEmails.add(item);
+                }
+                respond(exchange, 200, smartEmails);
+            } else if (segments.length == 3 && method.equals("GET")) {
+                smartEmailDetails(exchange, segments[2]);
+            } else if (segments.length == 4 && segments[3].equals("send") && method.equals("POST")) {
+                send(exchange);
+            } else {
+                notFound(exchange);
+            }
+        } else if (resource.equals("classicEmail")) {
+            if (segments.length == 3 && segments[2].equals("send") && method.equals("POST")) {
+                send(exchange);
+            } else if (segments.length == 3 && segments[2].equals("groups") && method.equals("GET")) {
+                List<Object> groups = new ArrayList<Object>();
+                for (int i = 0; i < 5; i++) {
+                    Map<String, Object> group = new LinkedHashMap<String, Object>();
+                    group.put("Group", "Group " + i);
+                    group.put("CreatedAt", SyntheticData.messageDate(i));
+                    groups.add(group);
+                }
+                respond(exchange, 200, groups);
+            } else {
+                notFound(exchange);
+            }
+        } else if (resource.equals("statistics") && method.equals("GET")) {
+            statistics(exchange, query);
+        } else if (resource.equals("messages")) {
+            if (segments.length == 2 && method.equals("GET")) {
+                timeline(exchange, query);
+            } else if (segments.length == 3 && method.equals("GET")) {
+                message(exchange, segments[2]);
+            } else if (segments.length == 4 && segments[3].equals("resend") && method.equals("POST")) {
+                long index = messageIndex(segments[2]);
+                if (index < 0 || index >= messageCount.get()) {
+                    error(exchange, 400, 404, "Message not found");
+                    return;
+                }
+                respond(exchange, 202, messageSent(messageCount.getAndIncrement(), SyntheticData.emailAddress(index)));
+            } else {
+                notFound(exchange);
+            }
+        } else {
+            notFound(exchange);
+        }
+    }
+
+    private void smartEmailDetails(HttpExchange exchange, String smartEmailID) throws IOException {
+        long index = smartEmailIndex(smartEmailID);
+        if (index < 0) {
+            error(exchange, 400, 404, "Smart email not found");
+            return;
+        }
+
+        Map<String, Object> content = new LinkedHashMap<String, Object>();
+        content.put("Html", "<p>Hello {{name}}</p>");
+        content.put("Text", "Hello {{name}}");
+        content.put("EmailVariables", new String[] { "name" });
+        content.put("InlineCss", true);
+
+        Map<String, Object> properties = new LinkedHashMap<String, Object>();
+        properties.put("From", "Sender <sender@example.com>");
+        properties.put("ReplyTo", "sender@example.com");
+        properties.put("Subject", "Smart Email " + index);
+        properties.put("TextPreviewUrl", "https://example.com/preview/" + index + "/text");
+        properties.put("HtmlPreviewUrl", "https://example.com/preview/" + index + "/html");
+        properties.put("Content", content);
+
+        Map<String, Object> details = new LinkedHashMap<String, Object>();
+        details.put("SmartEmailID", smartEmailID);
+        details.put("CreatedAt", SyntheticData.messageDate(index));
+        details.put("Status", "active");
+        details.put("Name", "Smart Email " + index);
+        details.put("Properties", properties);
+        details.put("AddRecipientsToList", false);
+        respond(exchange, 200, details);
+    }
+
+    /**
+     * Acknowledges a Smart or classic email send with one message per recipient, adding the
+     * messages to the end of the timeline.
+     */
+    private void send(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        List<String> recipients = new ArrayList<String>();
+        for (String field : new String[] { "To", "CC", "BCC" }) {
+            JsonNode addresses = body.has(field) ? body.get(field) : body.path(field.toLowerCase());
+            if (addresses.isArray()) {
+                for (JsonNode address : addresses) {
+                    recipients.add(address.asText());
+                }
+            } else if (addresses.isTextual()) {
+                recipients.add(addresses.asText());
+            }
+        }
+
+        if (recipients.isEmpty()) {
+            error(exchange, 400, 1, "No recipients were specified");
+            return;
+        }
+
+        long first = messageCount.getAndAdd(recipients.size());
+        List<Object> sent = new ArrayList<Object>();
+        for (int i = 0; i < recipients.size(); i++) {
+            sent.add(messageSent(first + i, recipients.get(i)));
+        }
+        respond(exchange, 202, sent);
+    }
+
+    private static Map<String, Object> messageSent(long index, String recipient) {
+        Map<String, Object> sent = new LinkedHashMap<String, Object>();
+        sent.put("MessageID", SyntheticData.messageID(index).toString());
+        sent.put("Status", "Accepted");
+        sent.put("Recipient", recipient);
+        return sent;
+    }
+
+    private void statistics(HttpExchange exchange, Map<String, String> query) throws IOException {
+        long sent = messageCount.get();
+        Map<String, Object> queried = new LinkedHashMap<String, Object>();
+        queried.put("Group", query.get("group"));
+        queried.put("SmartEmailID", query.get("smartEmailID"));
+        queried.put("From", query.containsKey("from") ? query.get("from") : "2020-01-01");
+        queried.put("To", query.containsKey("to") ? query.get("to") : "2020-01-31");
+        queried.put("TimeZone", query.containsKey("timezone") ? query.get("timezone") : "UTC");
+
+        Map<String, Object> statistics = new LinkedHashMap<String, Object>();
+        statistics.put("Sent", sent);
+        statistics.put("Bounces", sent / 50);
+        statistics.put("Delivered", sent - sent / 50);
+        statistics.put("Opened", sent / 2);
+        statistics.put("Clicked", sent / 3);
+        statistics.put("Query", queried);
+        respond(exchange, 200, statistics);
+    }
+
+    /**
+     * Writes a window of the timeline, newest first: the newest messages, those just before
+     * sentBeforeID, or those just after sentAfterID.
+     */
+    private void timeline(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int count = query.containsKey("count") ? Integer.parseInt(query.get("count")) : 50;
+        if (count < 1 || count > MAX_TIMELINE_COUNT) {
+            error(exchange, 400, 1, "Count must be between 1 and " + MAX_TIMELINE_COUNT);
+            return;
+        }
+
+        long total = messageCount.get();
+        String cursor = query.containsKey("sentBeforeID") ? query.get("sentBeforeID") : query.get("sentAfterID");
+        if (cursor != null && (messageIndex(cursor) < 0 || messageIndex(cursor) >= total)) {
+            error(exchange, 400, 404, "Message not found");
+            return;
+        }
+
+        long newest;
+        long oldest;
+        if (query.containsKey("sentBeforeID")) {
+            long before = messageIndex(query.get("sentBeforeID"));
+            newest = Math.min(before, total) - 1;
+            oldest = Math.max(0, newest - count + 1);
+        } else if (query.containsKey("sentAfterID")) {
+            long after = messageIndex(query.get("sentAfterID"));
+            oldest = after + 1;
+            newest = Math.min(total - 1, after + count);
+        } else {
+            newest = total - 1;
+            oldest = Math.max(0, newest - count + 1);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        JsonGenerator gen = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        gen.writeStartArray();
+        for (long index = newest; index >= oldest; index--) {
+            SyntheticData.writeMessageLogItem(gen, index);
+        }
+        gen.writeEndArray();
+        gen.close();
+        respond(exchange, 200, out);
+    }
+
+    private void message(HttpExchange exchange, String messageID) throws IOException {
+        long index = messageIndex(messageID);
+        if (index < 0 || index >= messageCount.get()) {
+            error(exchange, 400, 404, "Message not found");
+            return;
+        }
+
+        Map<String, Object> body = new LinkedHashMap<String, Object>();
+        body.put("Html", "<p>Message " + index + "</p>");
+        body.put("Text", "Message " + index);
+
+        Map<String, Object> detail = new LinkedHashMap<String, Object>();
+        detail.put("From", "Sender <sender@example.com>");
+        detail.put("Subject", "Message " + index);
+        detail.put("To", new String[] { SyntheticData.emailAddress(index) });
+        detail.put("CC", new String[0]);
+        detail.put("BCC", new String[0]);
+        detail.put("ReplyTo", "sender@example.com");
+        detail.put("Attachments", new Object[0]);
+        detail.put("Body", body);
+        detail.put("Data", new HashMap<String, String>());
+
+        Map<String, Object> message = new LinkedHashMap<String, Object>();
+        message.put("MessageID", messageID);
+        message.put("Status", "Delivered");
+        message.put("SentAt", SyntheticData.messageDate(index));
+        message.put("SmartEmailID", SyntheticData.smartEmailID(index % 3).toString());
+        message.put("CanBeResent", true);
+        message.put("Recipient", SyntheticData.emailAddress(index));
+        message.put("TotalOpens", index % 4);
+        message.put("TotalClicks", index % 3);
+        message.put("Message", detail);
+        message.put("Opens", new Object[0]);
+        message.put("Clicks", new Object[0]);
+        respond(exchange, 200, message);
+    }
+
+    private Map<String, Object> listStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<String, Object>();
+        for (String kind : new String[] { "ActiveSubscribers", "Unsubscribes", "Deleted", "Bounces" }) {
+            String newPrefix = kind.equals("ActiveSubscribers") ? "NewActiveSubscribers" : kind;
+            statistics.put("Total" + kind, recordCount);
+            statistics.put(newPrefix + "Today", 0);
+            statistics.put(newPrefix + "Yesterday", 0);
+            statistics.put(newPrefix + "ThisWeek", 0);
+            statistics.put(newPrefix + "ThisMonth", 0);
+            statistics.put(newPrefix + "ThisYear", 0);
+        }
+        return statistics;
+    }
+
+    /**
+     * Streams one page of a synthetic dataset as a paged result.
+     */
+    private void page(HttpExchange exchange, Map<String, String> query, SyntheticData.RecordWriter records)
+        throws IOException {
+        int page = query.containsKey("page") ? Integer.parseInt(query.get("page")) : 1;
+        int pageSize = query.containsKey("pagesize") ? Integer.parseInt(query.get("pagesize")) : MAX_PAGE_SIZE;
+        if (page < 1 || pageSize < 10 || pageSize > MAX_PAGE_SIZE) {
+            error(exchange, 400, 1, "Page must be at least 1 and page size between 10 and " + MAX_PAGE_SIZE);
+            return;
+        }
+
+        String orderField = query.containsKey("orderfield") ? query.get("orderfield") : "email";
+        boolean descending = "desc".equalsIgnoreCase(query.get("orderdirection"));
+        int total = recordCount;
+        long first = (long)(page - 1) * pageSize;
+        int onPage = (int)Math.max(0, Math.min(pageSize, total - first));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        JsonGenerator gen = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("Results");
+        for (int i = 0; i < onPage; i++) {
+            long index = first + i;
+            records.write(gen, descending ? total - 1 - index : index);
+        }
+        gen.writeEndArray();
+        gen.writeStringField("ResultsOrderedBy", orderField);
+        gen.writeStringField("OrderDirection", descending ? "desc" : "asc");
+        gen.writeNumberField("PageNumber", page);
+        gen.writeNumberField("PageSize", pageSize);
+        gen.writeNumberField("RecordsOnThisPage", onPage);
+        gen.writeNumberField("TotalNumberOfRecords", total);
+        gen.writeNumberField("NumberOfPages", (total + pageSize - 1) / pageSize);
+        gen.writeEndObject();
+        gen.close();
+        respond(exchange, 200, out);
+    }
+
+    /**
+     * Writes the single record at the index, unwrapped.
+     */
+    private static void record(HttpExchange exchange, long index, SyntheticData.RecordWriter records)
+        throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        JsonGenerator gen = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        records.write(gen, index);
+        gen.close();
+        respond(exchange, 200, out);
+    }
+
+    private static long messageIndex(String messageID) {
+        try {
+            return SyntheticData.messageIndex(UUID.fromString(messageID));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static long smartEmailIndex(String smartEmailID) {
+        try {
+            return SyntheticData.smartEmailIndex(UUID.fromString(smartEmailID));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static String newID() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static String stripJson(String segment) {
+        return segment.endsWith(".json") ? segment.substring(0, segment.length() - ".json".length()) : segment;
+    }
+
+    private static JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            JsonNode body = mapper.readTree(in);
+            return body == null ? mapper.createObjectNode() : body;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<String, String>();
+        if (rawQuery == null) {
+            return query;
+        }
+
+        for (String parameter : rawQuery.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                query.put(decode(parameter.substring(0, equals)), decode(parameter.substring(equals + 1)));
+            }
+        }
+        return query;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeOrNotFound(HttpExchange exchange, String method) throws IOException {
+        if (method.equals("GET")) {
+            notFound(exchange);
+        } else {
+            ok(exchange);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        mapper.writeValue(out, body);
+        respond(exchange, status, out);
+    }
+
+    /**
+     * Sends a response with a known length. Streaming a long body in chunks makes many small
+     * writes, which on loopback can add delays that belong to the server rather than the wrapper.
+     */
+    private static void respond(HttpExchange exchange, int status, ByteArrayOutputStream body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.writeTo(out);
+        }
+    }
+
+    private static void ok(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private static void notFound(HttpExchange exchange) throws IOException {
+        error(exchange, 404, 404, "Not found: " + exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+    }
+
+    private static void error(HttpExchange exchange, int status, int code, String message) throws IOException {
+        drain(exchange);
+        Map<String, Object> error = new LinkedHashMap<String, Object>();
+        error.put("Code", code);
+        error.put("Message", message);
+        respond(exchange, status, error);
+    }
+
+    /**
+     * Reads any request body not yet read, so the connection can be kept alive.
+     */
+    private static void drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) >= 0) {
+            }
+        }
+    }
+
+    /**
+     * Runs a server until the process is stopped.
+     * @param args The port to listen on, then optionally the number of records in each
+     * paged dataset and the median latency in milliseconds
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        FakeApiServer server = new FakeApiServer(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+        if (args.length > 1) {
+            server.setRecordCount(Integer.parseInt(args[1]));
+        }
+        if (args.length > 2) {
+            server.setLatency(LatencyDistribution.logNormal(Double.parseDouble(args[2]), 0.5));
+        }
+
+        server.start();
+        System.out.println("Listening at " + server.getEndpoint());
+        Thread.sleep(TimeUnit.DAYS.toMillis(365));
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.fakeserver;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The delay the fake server adds before answering each request.
+ */
+public abstract class LatencyDistribution {
+
+    /**
+     * @param random The source of randomness for the request being delayed
+     * @return The delay in nanoseconds
+     */
+    public abstract long nextDelay(SplittableRandom random);
+
+    /**
+     * @return A distribution which never delays.
+     */
+    public static LatencyDistribution none() {
+        return constant(0);
+    }
+
+    /**
+     * @param millis The delay in milliseconds
+     * @return A distribution which always delays by the same amount.
+     */
+    public static LatencyDistribution constant(final long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+
+        final long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        return new LatencyDistribution() {
+            @Override
+            public long nextDelay(SplittableRandom random) {
+                return nanos;
+            }
+        };
+    }
+
+    /**
+     * @param minMillis The shortest delay in milliseconds
+     * @param maxMillis The longest delay in milliseconds
+     * @return A distribution with delays spread evenly between the two.
+     */
+    public static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        if (minMillis < 0 || maxMillis < minMillis) {
+            throw new IllegalArgumentException("Latency range must be non-negative and not empty");
+        }
+
+        final long min = TimeUnit.MILLISECONDS.toNanos(minMillis);
+        final long max = TimeUnit.MILLISECONDS.toNanos(maxMillis);
+        return new LatencyDistribution() {
+            @Override
+            public long nextDelay(SplittableRandom random) {
+                return min == max ? min : random.nextLong(min, max + 1);
+            }
+        };
+    }
+
+    /**
+     * A log-normal distribution, which is how real request latencies tend to be spread: most
+     * requests take close to the median, with a long tail of slow ones.
+     * @param medianMillis The median delay in milliseconds
+     * @param sigma The standard deviation of the logarithm of the delay. 0.5 gives a 99th
+     * percentile a little over three times the median, 1.0 a little over ten times.
+     * @return A log-normal distribution of delays.
+     */
+    public static LatencyDistribution logNormal(double medianMillis, final double sigma) {
+        if (medianMillis <= 0 || sigma < 0) {
+            throw new IllegalArgumentException("Median must be positive and sigma must not be negative");
+        }
+
+        final double mu = Math.log(TimeUnit.MILLISECONDS.toNanos(1) * medianMillis);
+        return new LatencyDistribution() {
+            @Override
+            public long nextDelay(SplittableRandom random) {
+                return (long)Math.exp(mu + sigma * gaussian(random));
+            }
+        };
+    }
+
+    /**
+     * @return A standard normal variate, by the Box-Muller transform.
+     */
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.fakeserver;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Records the fake server returns, generated from their index rather than stored, so a
+ * dataset of millions of records takes no memory and reads the same on every run.
+ */
+final class SyntheticData {
+    /**
+     * The time of the first record. Each later record is a fixed interval after the one before.
+     */
+    static final long EPOCH_MILLIS = 1577836800000L; // 2020-01-01T00:00:00Z
+    private static final long SUBSCRIBER_INTERVAL_MILLIS = 60 * 1000;
+    private static final long MESSAGE_INTERVAL_MILLIS = 10 * 1000;
+
+    private static final long MESSAGE_ID_HIGH_BITS = 0x5ca1ab1e00004000L;
+    private static final long SMART_EMAIL_ID_HIGH_BITS = 0x5ca1ab1e5e0d4000L;
+    private static final long ID_LOW_BITS = 0x8000000000000000L;
+
+    private static final DateTimeFormatter subscriberDateFormat =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final String[] emailClients = { "Gmail", "Apple Mail", "Outlook", "iOS Devices", "Android" };
+    private static final String[] cities = { "Sydney", "Melbourne", "London", "New York", "Berlin" };
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Writes one record of a paged result.
+     */
+    interface RecordWriter {
+        void write(JsonGenerator gen, long index) throws IOException;
+    }
+
+    /**
+     * @param state The state of the subscribers, such as Active or Unsubscribed
+     * @return A writer of subscribers as returned when listing a list's subscribers.
+     */
+    static RecordWriter subscribers(final String listID, final String state) {
+        return new RecordWriter() {
+            @Override
+            public void write(JsonGenerator gen, long index) throws IOException {
+                writeSubscriber(gen, listID, state, index);
+                gen.writeEndObject();
+            }
+        };
+    }
+
+    /**
+     * @return A writer of the bounced recipients of a campaign.
+     */
+    static RecordWriter bounces(final String listID) {
+        return new RecordWriter() {
+            @Override
+            public void write(JsonGenerator gen, long index) throws IOException {
+                writeSubscriber(gen, listID, "Bounced", index);
+                gen.writeStringField("BounceType", index % 4 == 0 ? "Hard" : "Soft");
+                gen.writeStringField("Reason", index % 4 == 0 ? "Invalid email address" : "Mailbox full");
+                gen.writeEndObject();
+            }
+        };
+    }
+
+    /**
+     * @param clicks Whether the events are clicks, which also have the URL clicked
+     * @return A writer of the opens or clicks of a campaign.
+     */
+    static RecordWriter campaignEvents(final String listID, final boolean clicks) {
+        return new RecordWriter() {
+            @Override
+            public void write(JsonGenerator gen, long index) throws IOException {
+                gen.writeStartObject();
+                gen.writeStringField("EmailAddress", emailAddress(index));
+                gen.writeStringField("ListID", listID);
+                gen.writeStringField("Date", subscriberDate(index));
+                gen.writeStringField("IPAddress", "10." + (index >> 16 & 255) + "." + (index >> 8 & 255) + "." + (index & 255));
+                gen.writeNumberField("Latitude", -33.8683f + index % 90);
+                gen.writeNumberField("Longitude", 151.2086f - index % 180);
+                gen.writeStringField("City", cities[(int)(index % cities.length)]);
+                gen.writeStringField("Region", "Region " + index % 10);
+                gen.writeStringField("CountryCode", "AU");
+                gen.writeStringField("CountryName", "Australia");
+                if (clicks) {
+                    gen.writeStringField("URL", "https://example.com/links/" + index % 20);
+                }
+                gen.writeEndObject();
+            }
+        };
+    }
+
+    /**
+     * Writes all of a subscriber except the closing brace, so other fields can follow.
+     */
+    private static void writeSubscriber(JsonGenerator gen, String listID, String state, long index)
+        throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("ListID", listID);
+        gen.writeStringField("EmailAddress", emailAddress(index));
+        gen.writeStringField("Name", "Subscriber " + index);
+        gen.writeStringField("Date", subscriberDate(index));
+        gen.writeStringField("ListJoinedDate", subscriberDate(index));
+        gen.writeStringField("State", state);
+        gen.writeArrayFieldStart("CustomFields");
+        gen.writeStartObject();
+        gen.writeStringField("Key", "[Plan]");
+        gen.writeStringField("Value", index % 3 == 0 ? "Premium" : "Basic");
+        gen.writeEndObject();
+        gen.writeStartObject();
+        gen.writeStringField("Key", "[CustomerNumber]");
+        gen.writeStringField("Value", Long.toString(100000 + index));
+        gen.writeEndObject();
+        gen.writeEndArray();
+        gen.writeStringField("ReadsEmailWith", emailClients[(int)(index % emailClients.length)]);
+        gen.writeStringField("ConsentToTrack", "Yes");
+    }
+
+    /**
+     * Writes a message as it appears in the transactional timeline.
+     */
+    static void writeMessageLogItem(JsonGenerator gen, long index) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("MessageID", messageID(index).toString());
+        gen.writeStringField("Group", "Group " + index % 5);
+        gen.writeStringField("Status", index % 50 == 0 ? "Bounced" : "Delivered");
+        gen.writeStringField("SentAt", messageDate(index));
+        gen.writeStringField("SmartEmailID", smartEmailID(index % 3).toString());
+        gen.writeBooleanField("CanBeResent", true);
+        gen.writeStringField("Recipient", "Subscriber " + index + " <" + emailAddress(index) + ">");
+        gen.writeStringField("From", "Sender <sender@example.com>");
+        gen.writeStringField("Subject", "Message " + index);
+        gen.writeNumberField("TotalOpens", (int)(index % 4));
+        gen.writeNumberField("TotalClicks", (int)(index % 3));
+        gen.writeEndObject();
+    }
+
+    /**
+     * @return The index of the subscriber with the email address, or -1 if it is not one
+     * of the synthetic subscribers.
+     */
+    static long subscriberIndex(String emailAddress) {
+        if (emailAddress == null || !emailAddress.startsWith("subscriber") || !emailAddress.endsWith("@example.com")) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(emailAddress.substring("subscriber".length(), emailAddress.indexOf('@')));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static String emailAddress(long index) {
+        return "subscriber" + index + "@example.com";
+    }
+
+    static String subscriberDate(long index) {
+        return subscriberDateFormat.format(Instant.ofEpochMilli(EPOCH_MILLIS + index * SUBSCRIBER_INTERVAL_MILLIS));
+    }
+
+    static String messageDate(long index) {
+        return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(EPOCH_MILLIS + index * MESSAGE_INTERVAL_MILLIS));
+    }
+
+    static UUID messageID(long index) {
+        return new UUID(MESSAGE_ID_HIGH_BITS, ID_LOW_BITS | index);
+    }
+
+    static UUID smartEmailID(long index) {
+        return new UUID(SMART_EMAIL_ID_HIGH_BITS, ID_LOW_BITS | index);
+    }
+
+    /**
+     * @return The index of the message with the ID, or -1 if it is not a synthetic message ID.
+     */
+    static long messageIndex(UUID messageID) {
+        return messageID.getMostSignificantBits() == MESSAGE_ID_HIGH_BITS ?
+            messageID.getLeastSignificantBits() & ~ID_LOW_BITS : -1;
+    }
+
+    /**
+     * @return The index of the Smart Email with the ID, or -1 if it is not a synthetic Smart Email ID.
+     */
+    static long smartEmailIndex(UUID smartEmailID) {
+        return smartEmailID.getMostSignificantBits() == SMART_EMAIL_ID_HIGH_BITS ?
+            smartEmailID.getLeastSignificantBits() & ~ID_LOW_BITS : -1;
+    }
+}
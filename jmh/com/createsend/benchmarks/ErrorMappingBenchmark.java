@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.createsend.models.campaigns.CampaignSummary;
+import com.createsend.util.ApiKeyAuthenticationDetails;
+import com.createsend.util.JerseyClientImpl;
+import com.createsend.util.exceptions.CreateSendException;
+
+/**
+ * Turning API error responses into exceptions, from the response leaving the transport to
+ * the exception reaching the caller. 429 is not a status Jersey knows, so it takes the
+ * path which reads the body with Jackson directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorMappingBenchmark {
+    @Param({ "400", "401", "429" })
+    public int status;
+
+    private JerseyClientImpl client;
+
+    @Setup
+    public void setUp() {
+        StubTransport transport = new StubTransport();
+        transport.respondWith(status, body(status));
+
+        client = new JerseyClientImpl(new ApiKeyAuthenticationDetails("api key"), transport);
+        client.setRetryPolicy(null);
+        client.setConcurrencyLimiter(null);
+    }
+
+    @Benchmark
+    public CreateSendException get() {
+        try {
+            client.get(CampaignSummary.class, "campaigns", Payloads.CAMPAIGN_ID, "summary.json");
+        } catch (CreateSendException e) {
+            return e;
+        }
+        throw new IllegalStateException("Expected the request to fail");
+    }
+
+    private static String body(int status) {
+        switch (status) {
+            case 400:
+                return "{\"Code\":250,\"Message\":\"List title must be unique.\"}";
+            case 401:
+                return "{\"Code\":50,\"Message\":\"Must supply a valid HTTP Basic Authorization header\"}";
+            case 429:
+                return "{\"Code\":429,\"Message\":\"Rate limit exceeded\"}";
+            default:
+                return "{\"Code\":" + status + ",\"Message\":\"Error\"}";
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.createsend.models.PagedResult;
+import com.createsend.models.subscribers.SubscriberWithJoinedDate;
+import com.createsend.util.JerseyClientImpl;
+import com.sun.jersey.api.client.GenericType;
+
+/**
+ * Finding the type of a paged result by walking the stack to the calling method, as the
+ * deprecated untyped getPagedResult does, against the type token the API wrappers now use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericReturnTypeBenchmark {
+    private static final GenericType<PagedResult<SubscriberWithJoinedDate>> SUBSCRIBER_PAGE =
+        new GenericType<PagedResult<SubscriberWithJoinedDate>>() {};
+
+    private final Caller caller = new Caller();
+
+    @Benchmark
+    public Type stackWalk() {
+        caller.active();
+        return caller.type;
+    }
+
+    @Benchmark
+    public Type typeToken() {
+        return SUBSCRIBER_PAGE.getType();
+    }
+
+    /**
+     * Stands in for an API wrapper method whose return type is looked up.
+     */
+    public static class Caller {
+        private ParameterizedType type;
+
+        public PagedResult<SubscriberWithJoinedDate> active() {
+            // Frame 0 is getStackTrace and frame 1 getGenericReturnType, so this method is frame 2
+            type = JerseyClientImpl.getGenericReturnType(null, 2);
+            return null;
+        }
+    }
+}
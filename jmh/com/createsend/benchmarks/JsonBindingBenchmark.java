@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.createsend.models.PagedResult;
+import com.createsend.models.campaigns.CampaignOpen;
+import com.createsend.models.subscribers.SubscriberWithJoinedDate;
+import com.createsend.models.transactional.request.SmartEmailRequest;
+import com.createsend.models.transactional.response.MessageLogItem;
+import com.createsend.util.jersey.JsonProvider;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Binding models by reflection, the default, against binding them through accessors
+ * generated by the Jackson Afterburner module, enabled by setting createsend.json.afterburner
+ * to true.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBindingBenchmark {
+    private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    @Param({ "false", "true" })
+    public boolean afterburner;
+
+    private ObjectReader subscriberPageReader;
+    private ObjectReader campaignOpenPageReader;
+    private ObjectReader timelineReader;
+    private ObjectWriter smartEmailRequestWriter;
+    private byte[] subscriberPage;
+    private byte[] campaignOpenPage;
+    private byte[] timeline;
+    private List<SmartEmailRequest> smartEmailRequests;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = JsonProvider.createObjectMapper(afterburner);
+        if (afterburner && !mapper.getRegisteredModuleIds().contains(AFTERBURNER_MODULE)) {
+            throw new IllegalStateException("jackson-module-afterburner is not on the classpath");
+        }
+
+        subscriberPageReader = mapper.readerFor(new TypeReference<PagedResult<SubscriberWithJoinedDate>>() {});
+        campaignOpenPageReader = mapper.readerFor(new TypeReference<PagedResult<CampaignOpen>>() {});
+        timelineReader = mapper.readerFor(MessageLogItem[].class);
+        smartEmailRequestWriter = mapper.writerFor(SmartEmailRequest.class);
+
+        subscriberPage = mapper.writeValueAsBytes(Payloads.subscriberPage(1000));
+        campaignOpenPage = mapper.writeValueAsBytes(Payloads.campaignOpenPage(1000));
+        timeline = mapper.writeValueAsBytes(Payloads.timeline(500));
+        smartEmailRequests = Payloads.smartEmailRequests(1000);
+    }
+
+    @Benchmark
+    public Object readSubscriberPage() throws IOException {
+        return subscriberPageReader.readValue(subscriberPage);
+    }
+
+    @Benchmark
+    public Object readCampaignOpenPage() throws IOException {
+        return campaignOpenPageReader.readValue(campaignOpenPage);
+    }
+
+    @Benchmark
+    public Object readMessageTimeline() throws IOException {
+        return timelineReader.readValue(timeline);
+    }
+
+    @Benchmark
+    public int writeSmartEmailRequests() throws IOException {
+        int written = 0;
+        for (SmartEmailRequest request : smartEmailRequests) {
+            written += smartEmailRequestWriter.writeValueAsBytes(request).length;
+        }
+        return written;
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MediaType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.createsend.models.PagedResult;
+import com.createsend.models.subscribers.SubscriberWithJoinedDate;
+import com.createsend.models.subscribers.SubscribersToAdd;
+import com.createsend.models.transactional.request.SmartEmailRequest;
+import com.createsend.util.jersey.JsonProvider;
+import com.sun.jersey.api.client.GenericType;
+
+/**
+ * Reading and writing representative payloads through the JSON provider Jersey uses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonProviderBenchmark {
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+    private static final Type SUBSCRIBER_PAGE =
+        new GenericType<PagedResult<SubscriberWithJoinedDate>>() {}.getType();
+
+    private JsonProvider provider;
+    private byte[] subscriberPage;
+    private SubscribersToAdd subscribersToAdd;
+    private SmartEmailRequest smartEmailRequest;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() throws IOException {
+        provider = new JsonProvider();
+        subscriberPage = JsonProvider.writerFor(SUBSCRIBER_PAGE).writeValueAsBytes(Payloads.subscriberPage(1000));
+        subscribersToAdd = Payloads.subscribersToAdd(1000);
+        smartEmailRequest = Payloads.smartEmailRequest(64 * 1024);
+        out = new ByteArrayOutputStream(1024 * 1024);
+    }
+
+    @Benchmark
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Object readSubscriberPage() throws IOException {
+        return provider.readFrom((Class)PagedResult.class, SUBSCRIBER_PAGE, NO_ANNOTATIONS,
+            MediaType.APPLICATION_JSON_TYPE, null, new ByteArrayInputStream(subscriberPage));
+    }
+
+    @Benchmark
+    public int writeSubscribersToAdd() throws IOException {
+        return write(subscribersToAdd);
+    }
+
+    @Benchmark
+    public int writeSmartEmailRequest() throws IOException {
+        return write(smartEmailRequest);
+    }
+
+    private int write(Object value) throws IOException {
+        out.reset();
+        provider.writeTo(value, value.getClass(), value.getClass(), NO_ANNOTATIONS,
+            MediaType.APPLICATION_JSON_TYPE, null, out);
+        return out.size();
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.createsend.Lists;
+import com.createsend.fakeserver.FakeApiServer;
+import com.createsend.models.PagedResult;
+import com.createsend.models.subscribers.SubscriberWithJoinedDate;
+import com.createsend.util.ApiKeyAuthenticationDetails;
+import com.createsend.util.Configuration;
+import com.createsend.util.ResultHandler;
+import com.createsend.util.exceptions.CreateSendException;
+
+/**
+ * Reading a 1000 subscriber page end to end over HTTP from a local {@link FakeApiServer},
+ * materialising the page against streaming each subscriber to a handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedReadBenchmark {
+    private static final Date SUBSCRIBED_FROM = new Date(0);
+
+    private FakeApiServer server;
+    private Lists lists;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new FakeApiServer(0);
+        server.start();
+        Configuration.Current.setApiEndpoint(server.getEndpoint());
+
+        lists = new Lists(new ApiKeyAuthenticationDetails("api key"), Payloads.LIST_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public int materialised() throws CreateSendException {
+        return lists.active(SUBSCRIBED_FROM, 1, 1000, "email", "asc", false).Results.length;
+    }
+
+    @Benchmark
+    public PagedResult<SubscriberWithJoinedDate> streamed(final Blackhole blackhole) throws CreateSendException {
+        return lists.active(SUBSCRIBED_FROM, 1, 1000, "email", "asc", false,
+            new ResultHandler<SubscriberWithJoinedDate>() {
+                @Override
+                public void handle(SubscriberWithJoinedDate subscriber) {
+                    blackhole.consume(subscriber);
+                }
+            });
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import com.createsend.models.PagedResult;
+import com.createsend.models.campaigns.CampaignOpen;
+import com.createsend.models.subscribers.ConsentToTrack;
+import com.createsend.models.subscribers.CustomField;
+import com.createsend.models.subscribers.Subscriber;
+import com.createsend.models.subscribers.SubscriberWithJoinedDate;
+import com.createsend.models.subscribers.SubscribersToAdd;
+import com.createsend.models.transactional.request.Attachment;
+import com.createsend.models.transactional.request.SmartEmailRequest;
+
+/**
+ * Representative requests and responses for the benchmarks, built the same way on every run.
+ */
+final class Payloads {
+    static final String LIST_ID = "a58ee1d3039b8bec838e6d1482a8a965";
+    static final String CLIENT_ID = "4a397ccaaa55eb4e6aa1221e1e2d7122";
+    static final String CAMPAIGN_ID = "fc0ce7105baeaf97f47c99be31d02a91";
+
+    private Payloads() {
+    }
+
+    static PagedResult<SubscriberWithJoinedDate> subscriberPage(int size) {
+        PagedResult<SubscriberWithJoinedDate> page = new PagedResult<SubscriberWithJoinedDate>();
+        page.Results = new SubscriberWithJoinedDate[size];
+        for (int i = 0; i < size; i++) {
+            SubscriberWithJoinedDate subscriber = new SubscriberWithJoinedDate();
+            subscriber.ListID = LIST_ID;
+            subscriber.EmailAddress = "subscriber" + i + "@example.com";
+            subscriber.Name = "Subscriber " + i;
+            subscriber.Date = new Date(1500000000000L + i * 60000L);
+            subscriber.ListJoinedDate = subscriber.Date;
+            subscriber.State = "Active";
+            subscriber.CustomFields = customFields(i);
+            subscriber.ReadsEmailWith = "Gmail";
+            subscriber.ConsentToTrack = ConsentToTrack.YES;
+            page.Results[i] = subscriber;
+        }
+
+        page.ResultsOrderedBy = "email";
+        page.OrderDirection = "asc";
+        page.PageNumber = 1;
+        page.PageSize = size;
+        page.RecordsOnThisPage = size;
+        page.TotalNumberOfRecords = size * 10;
+        page.NumberOfPages = 10;
+        return page;
+    }
+
+    static PagedResult<CampaignOpen> campaignOpenPage(int size) {
+        PagedResult<CampaignOpen> page = new PagedResult<CampaignOpen>();
+        page.Results = new CampaignOpen[size];
+        for (int i = 0; i < size; i++) {
+            CampaignOpen open = new CampaignOpen();
+            open.EmailAddress = "subscriber" + i + "@example.com";
+            open.ListID = LIST_ID;
+            open.Date = new Date(1500000000000L + i * 60000L);
+            open.IPAddress = "192.168.0." + (i % 256);
+            open.Latitude = -33.8683f;
+            open.Longitude = 151.2086f;
+            open.City = "Sydney";
+            open.Region = "New South Wales";
+            open.CountryCode = "AU";
+            open.CountryName = "Australia";
+            page.Results[i] = open;
+        }
+
+        page.ResultsOrderedBy = "date";
+        page.OrderDirection = "asc";
+        page.PageNumber = 1;
+        page.PageSize = size;
+        page.RecordsOnThisPage = size;
+        page.TotalNumberOfRecords = size * 10;
+        page.NumberOfPages = 10;
+        return page;
+    }
+
+    /**
+     * @return A transactional timeline as the API returns it. MessageLogItem has no setters,
+     * so the timeline is built as JSON properties rather than from model instances.
+     */
+    static List<Map<String, Object>> timeline(int size) {
+        List<Map<String, Object>> items = new ArrayList<Map<String, Object>>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> item = new LinkedHashMap<String, Object>();
+            item.put("MessageID", new UUID(0x5ca1ab1eL, i).toString());
+            item.put("Group", "Password Reset");
+            item.put("Status", "Delivered");
+            item.put("SentAt", String.format("2024-01-02T03:%02d:%02dZ", i / 60 % 60, i % 60));
+            item.put("SmartEmailID", "bb4a6ebb-663d-42a0-bdbe-60512cf30a01");
+            item.put("CanBeResent", true);
+            item.put("Recipient", "Subscriber " + i + " <subscriber" + i + "@example.com>");
+            item.put("From", "Sender <sender@example.com>");
+            item.put("Subject", "Reset your password");
+            item.put("TotalOpens", i % 5);
+            item.put("TotalClicks", i % 3);
+            items.add(item);
+        }
+        return items;
+    }
+
+    static SubscribersToAdd subscribersToAdd(int size) {
+        SubscribersToAdd subscribers = new SubscribersToAdd();
+        subscribers.Subscribers = new Subscriber[size];
+        for (int i = 0; i < size; i++) {
+            Subscriber subscriber = new Subscriber();
+            subscriber.EmailAddress = "subscriber" + i + "@example.com";
+            subscriber.Name = "Subscriber " + i;
+            subscriber.CustomFields = customFields(i);
+            subscriber.ConsentToTrack = ConsentToTrack.UNCHANGED;
+            subscribers.Subscribers[i] = subscriber;
+        }
+        subscribers.Resubscribe = true;
+        subscribers.QueueSubscriptionBasedAutoResponders = false;
+        subscribers.RestartSubscriptionBasedAutoresponders = true;
+        return subscribers;
+    }
+
+    /**
+     * @return A Smart Email request with two attachments of the given size before encoding.
+     */
+    static SmartEmailRequest smartEmailRequest(int attachmentSize) {
+        SmartEmailRequest request = new SmartEmailRequest(
+            UUID.fromString("bb4a6ebb-663d-42a0-bdbe-60512cf30a01"), "subscriber@example.com", ConsentToTrack.YES);
+        request.addCc("cc@example.com");
+        request.addBcc("bcc@example.com");
+        request.addData("name", "Subscriber");
+        request.addData("resetLink", "https://example.com/reset/0123456789");
+
+        Random random = new Random(42);
+        for (int i = 0; i < 2; i++) {
+            byte[] content = new byte[attachmentSize];
+            random.nextBytes(content);
+
+            Attachment attachment = new Attachment();
+            attachment.Name = "attachment" + i + ".pdf";
+            attachment.Type = "application/pdf";
+            attachment.Content = Base64.getEncoder().encodeToString(content);
+            request.addAttachment(attachment);
+        }
+        return request;
+    }
+
+    /**
+     * @return Smart Email requests without attachments, one for each recipient.
+     */
+    static List<SmartEmailRequest> smartEmailRequests(int size) {
+        UUID smartEmailId = UUID.fromString("bb4a6ebb-663d-42a0-bdbe-60512cf30a01");
+        List<SmartEmailRequest> requests = new ArrayList<SmartEmailRequest>(size);
+        for (int i = 0; i < size; i++) {
+            SmartEmailRequest request = new SmartEmailRequest(smartEmailId,
+                "subscriber" + i + "@example.com", ConsentToTrack.UNCHANGED);
+            request.addCc("cc@example.com");
+            request.addData("name", "Subscriber " + i);
+            request.addData("resetLink", "https://example.com/reset/" + i);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private static CustomField[] customFields(int i) {
+        CustomField[] fields = new CustomField[3];
+        for (int j = 0; j < fields.length; j++) {
+            fields[j] = new CustomField();
+            fields[j].Key = "[Field" + j + "]";
+            fields[j].Value = "Value " + i;
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.createsend.util.jersey.AuthorisedResourceFactory;
+import com.createsend.util.jersey.ResourceFactory;
+import com.createsend.util.jersey.UnauthorisedResourceFactory;
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.WebResource;
+
+/**
+ * Building the resource for a request: resolving the endpoint, appending the path
+ * elements and adding the authentication filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceFactoryBenchmark {
+    private Client client;
+    private ResourceFactory apiKeyFactory;
+    private ResourceFactory oauthFactory;
+    private ResourceFactory unauthorisedFactory;
+
+    @Setup
+    public void setUp() {
+        client = new StubTransport().getClient();
+        apiKeyFactory = new AuthorisedResourceFactory("api key", "x");
+        oauthFactory = new AuthorisedResourceFactory("access token");
+        unauthorisedFactory = new UnauthorisedResourceFactory();
+    }
+
+    @Benchmark
+    public WebResource apiKey() {
+        return apiKeyFactory.getResource(client, "lists", Payloads.LIST_ID, "active.json");
+    }
+
+    @Benchmark
+    public WebResource oauth() {
+        return oauthFactory.getResource(client, "clients", Payloads.CLIENT_ID, "campaigns.json");
+    }
+
+    @Benchmark
+    public WebResource unauthorised() {
+        return unauthorisedFactory.getResource(client, "systemdate.json");
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.createsend.util.transport.HttpTransport;
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientRequest;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.TerminatingClientHandler;
+import com.sun.jersey.core.header.InBoundHeaders;
+
+/**
+ * A transport which answers every request with a canned JSON response instead of
+ * making a connection, so benchmarks measure the wrapper rather than the network.
+ * Request entities are still serialised, to a stream which discards them.
+ */
+public class StubTransport extends HttpTransport {
+    private final Client client;
+    private volatile int status = 200;
+    private volatile byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+
+    public StubTransport() {
+        Handler handler = new Handler();
+        client = new Client(handler, createClientConfig());
+        handler.setMessageBodyWorkers(client.getMessageBodyWorkers());
+
+        addDefaultFilters(client);
+    }
+
+    /**
+     * Sets the response given to every subsequent request.
+     * @param status The HTTP status of the response
+     * @param body The JSON body of the response
+     */
+    public void respondWith(int status, String body) {
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+        this.status = status;
+    }
+
+    @Override
+    public Client getClient() {
+        return client;
+    }
+
+    private class Handler extends TerminatingClientHandler {
+        @Override
+        public ClientResponse handle(ClientRequest request) throws ClientHandlerException {
+            if (request.getEntity() != null) {
+                try {
+                    getRequestEntityWriter(request).writeRequestEntity(DISCARD);
+                } catch (IOException e) {
+                    throw new ClientHandlerException(e);
+                }
+            }
+
+            InBoundHeaders headers = new InBoundHeaders();
+            headers.putSingle("Content-Type", "application/json; charset=utf-8");
+            return new ClientResponse(status, headers, new ByteArrayInputStream(body), getMessageBodyWorkers());
+        }
+    }
+
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+}
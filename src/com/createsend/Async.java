@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.createsend.util.ApiAction;
+import com.createsend.util.ApiCall;
+
+/**
+ * Makes calls against any of the API wrappers (e.g. {@link Subscribers}, {@link Lists},
+ * {@link SmartEmail}) without blocking the calling thread.
+ *
+ * Calls are run on the provided executor and their results are delivered through a
+ * {@link CompletableFuture}. A call which fails completes its future exceptionally with
+ * the same {@link com.createsend.util.exceptions.CreateSendException} the blocking call
+ * would have thrown.
+ *
+ * <pre>
+ * Async&lt;Subscribers&gt; subscribers = Async.of(new Subscribers(auth, listID), executor);
+ * CompletableFuture&lt;String&gt; added = subscribers.call(s -&gt; s.add(subscriber));
+ * </pre>
+ * @param <E> The type of API wrapper calls are made against
+ */
+public class Async<E extends CreateSendBase> {
+    private final E endpoint;
+    private final Executor executor;
+
+    /**
+     * @param endpoint The API wrapper to make calls against
+     * @param executor The executor to run calls on
+     */
+    public Async(E endpoint, Executor executor) {
+        if (endpoint == null) {
+            throw new IllegalArgumentException("Must supply an endpoint");
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("Must supply an executor");
+        }
+
+        this.endpoint = endpoint;
+        this.executor = executor;
+    }
+
+    /**
+     * @param endpoint The API wrapper to make calls against
+     * @param executor The executor to run calls on
+     * @return An Async wrapping the given API wrapper
+     */
+    public static <E extends CreateSendBase> Async<E> of(E endpoint, Executor executor) {
+        return new Async<E>(endpoint, executor);
+    }
+
+    /**
+     * @return The API wrapper calls are made against
+     */
+    public E getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Makes a call which returns a result.
+     * @param call The call to make
+     * @return A future completed with the result of the call
+     */
+    public <T> CompletableFuture<T> call(final ApiCall<? super E, T> call) {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        submit(future, new Runnable() {
+            public void run() {
+                try {
+                    future.complete(call.call(endpoint));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Makes a call which does not return a result.
+     * @param action The call to make
+     * @return A future completed once the call has been made
+     */
+    public CompletableFuture<Void> run(final ApiAction<? super E> action) {
+        final CompletableFuture<Void> future = new CompletableFuture<Void>();
+        submit(future, new Runnable() {
+            public void run() {
+                try {
+                    action.run(endpoint);
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        });
+        return future;
+    }
+
+    private void submit(CompletableFuture<?> future, Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
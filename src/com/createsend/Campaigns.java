@@ -40,8 +40,10 @@ import com.createsend.models.subscribers.Subscriber;
 import com.createsend.util.AuthenticationDetails;
 import com.createsend.util.ErrorDeserialiser;
 import com.createsend.util.JerseyClientImpl;
+import com.createsend.util.ResultHandler;
 import com.createsend.util.exceptions.CreateSendException;
 import com.createsend.util.jersey.JsonProvider;
+import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 /**
@@ -49,6 +51,15 @@ import com.sun.jersey.core.util.MultivaluedMapImpl;
  * Campaign</a> resources in the Campaign Monitor API
  */
 public class Campaigns extends CreateSendBase {
+    private static final GenericType<PagedResult<Subscriber>> SUBSCRIBER_PAGE =
+        new GenericType<PagedResult<Subscriber>>() {};
+    private static final GenericType<PagedResult<BouncedSubscriber>> BOUNCED_SUBSCRIBER_PAGE =
+        new GenericType<PagedResult<BouncedSubscriber>>() {};
+    private static final GenericType<PagedResult<CampaignOpen>> CAMPAIGN_OPEN_PAGE =
+        new GenericType<PagedResult<CampaignOpen>>() {};
+    private static final GenericType<PagedResult<CampaignClick>> CAMPAIGN_CLICK_PAGE =
+        new GenericType<PagedResult<CampaignClick>>() {};
+
     private String campaignID;
 
     /**
@@ -130,7 +141,7 @@ public class Campaigns extends CreateSendBase {
     public void send(String confirmationEmail, Date sendDate) throws CreateSendException {
         Schedule sched = new Schedule();
         sched.ConfirmationEmail = confirmationEmail;
-        sched.SendDate = sendDate == null ? "Immediately" : JsonProvider.ApiDateFormat.format(sendDate);
+        sched.SendDate = sendDate == null ? "Immediately" : JsonProvider.formatDate(sendDate);
         
         jerseyClient.post(String.class, sched, "campaigns", campaignID, "send.json");
     }
@@ -200,7 +211,25 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<Subscriber> recipients(
         Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection, null, 
+        return recipients(page, pageSize, orderField, orderDirection, null);
+    }
+
+    /**
+     * Streams a paged list of recipients for the specified campaign
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param handler The handler to pass each of the recipients to as it is read from the response.
+     * @return The paging details of the recipients returned by the api call. The recipients themselves
+     * are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="http://www.campaignmonitor.com/api/campaigns/#campaign_recipients" target="_blank">
+     * Getting campaign recipients</a>
+     */
+    public PagedResult<Subscriber> recipients(Integer page, Integer pageSize, String orderField,
+        String orderDirection, ResultHandler<? super Subscriber> handler) throws CreateSendException {
+        return jerseyClient.getPagedResult(SUBSCRIBER_PAGE, handler, page, pageSize, orderField, orderDirection, null,
             "campaigns", campaignID, "recipients.json");
     }
 
@@ -228,7 +257,7 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<BouncedSubscriber> bounces(
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return bounces("", page, pageSize, orderField, orderDirection);
+    	return bounces("", page, pageSize, orderField, orderDirection, null);
     }
 
     /**
@@ -245,16 +274,37 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<BouncedSubscriber> bounces(Date bouncesFrom,
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return bounces(JsonProvider.ApiDateFormat.format(bouncesFrom),
-    			page, pageSize, orderField, orderDirection);
+    	return bounces(JsonProvider.formatDate(bouncesFrom),
+    			page, pageSize, orderField, orderDirection, null);
     }
     
+    /**
+     * Streams a paged list of bounces for the specified campaign
+     * @param bouncesFrom The date to start getting bounce results from. This field is required
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param handler The handler to pass each of the bounces to as it is read from the response.
+     * @return The paging details of the bounces returned by the api call. The bounces themselves
+     * are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="http://www.campaignmonitor.com/api/campaigns/#campaign_bouncelist" target="_blank">
+     * Getting campaign bounces</a>
+     */
+    public PagedResult<BouncedSubscriber> bounces(Date bouncesFrom, Integer page, Integer pageSize, String orderField,
+            String orderDirection, ResultHandler<? super BouncedSubscriber> handler) throws CreateSendException {
+    	return bounces(JsonProvider.formatDate(bouncesFrom),
+    			page, pageSize, orderField, orderDirection, handler);
+    }
+
     private PagedResult<BouncedSubscriber> bounces(String bouncesFrom,
-        Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
+        Integer page, Integer pageSize, String orderField, String orderDirection,
+        ResultHandler<? super BouncedSubscriber> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", bouncesFrom);
         
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection, queryString, 
+        return jerseyClient.getPagedResult(BOUNCED_SUBSCRIBER_PAGE, handler, page, pageSize, orderField, orderDirection, queryString, 
             "campaigns", campaignID, "bounces.json");
     }
 
@@ -282,7 +332,7 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<CampaignOpen> opens(
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return opens("", page, pageSize, orderField, orderDirection);
+    	return opens("", page, pageSize, orderField, orderDirection, null);
     }
 
     /**
@@ -299,16 +349,37 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<CampaignOpen> opens(Date opensFrom,
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return opens(JsonProvider.ApiDateFormat.format(opensFrom),
-    			page, pageSize, orderField, orderDirection);
+    	return opens(JsonProvider.formatDate(opensFrom),
+    			page, pageSize, orderField, orderDirection, null);
+    }
+
+    /**
+     * Streams a paged list of opens for the specified campaign
+     * @param opensFrom The date to start getting open results from. This field is required
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param handler The handler to pass each of the opens to as it is read from the response.
+     * @return The paging details of the opens returned by the api call. The opens themselves
+     * are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="http://www.campaignmonitor.com/api/campaigns/#campaign_openslist" target="_blank">
+     * Getting campaign opens</a>
+     */
+    public PagedResult<CampaignOpen> opens(Date opensFrom, Integer page, Integer pageSize, String orderField,
+            String orderDirection, ResultHandler<? super CampaignOpen> handler) throws CreateSendException {
+    	return opens(JsonProvider.formatDate(opensFrom),
+    			page, pageSize, orderField, orderDirection, handler);
     }
 
     private PagedResult<CampaignOpen> opens(String opensFrom,
-        Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
+        Integer page, Integer pageSize, String orderField, String orderDirection,
+        ResultHandler<? super CampaignOpen> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", opensFrom);
         
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(CAMPAIGN_OPEN_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "campaigns", campaignID, "opens.json");
     }
 
@@ -336,7 +407,7 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<CampaignClick> clicks(
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return clicks("", page, pageSize, orderField, orderDirection);
+    	return clicks("", page, pageSize, orderField, orderDirection, null);
     }
 
     /**
@@ -353,16 +424,37 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<CampaignClick> clicks(Date clicksFrom,
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return clicks(JsonProvider.ApiDateFormat.format(clicksFrom),
-    			page, pageSize, orderField, orderDirection);
+    	return clicks(JsonProvider.formatDate(clicksFrom),
+    			page, pageSize, orderField, orderDirection, null);
     }
     
+    /**
+     * Streams a paged list of clicks for the specified campaign
+     * @param clicksFrom The date to start getting click results from. This field is required
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param handler The handler to pass each of the clicks to as it is read from the response.
+     * @return The paging details of the clicks returned by the api call. The clicks themselves
+     * are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="http://www.campaignmonitor.com/api/campaigns/#campaign_clickslist" target="_blank">
+     * Getting campaign clicks</a>
+     */
+    public PagedResult<CampaignClick> clicks(Date clicksFrom, Integer page, Integer pageSize, String orderField,
+            String orderDirection, ResultHandler<? super CampaignClick> handler) throws CreateSendException {
+    	return clicks(JsonProvider.formatDate(clicksFrom),
+    			page, pageSize, orderField, orderDirection, handler);
+    }
+
     private PagedResult<CampaignClick> clicks(String clicksFrom,
-        Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
+        Integer page, Integer pageSize, String orderField, String orderDirection,
+        ResultHandler<? super CampaignClick> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", clicksFrom);
         
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(CAMPAIGN_CLICK_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "campaigns", campaignID, "clicks.json");
     }
 
@@ -390,7 +482,7 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<Subscriber> unsubscribes(
 			Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return unsubscribes("", page, pageSize, orderField, orderDirection);
+    	return unsubscribes("", page, pageSize, orderField, orderDirection, null);
     }
 
     /**
@@ -407,16 +499,37 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<Subscriber> unsubscribes(Date unsubscribesFrom,
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return unsubscribes(JsonProvider.ApiDateFormat.format(unsubscribesFrom),
-    			page, pageSize, orderField, orderDirection);
+    	return unsubscribes(JsonProvider.formatDate(unsubscribesFrom),
+    			page, pageSize, orderField, orderDirection, null);
     }
     
+    /**
+     * Streams a paged list of unsubscribes for the specified campaign
+     * @param unsubscribesFrom The date to start getting unsubscribe results from. This field is required
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param handler The handler to pass each of the unsubscribes to as it is read from the response.
+     * @return The paging details of the unsubscribes returned by the api call. The unsubscribes themselves
+     * are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="http://www.campaignmonitor.com/api/campaigns/#campaign_unsubscribeslist" target="_blank">
+     * Getting campaign unsubscribes</a>
+     */
+    public PagedResult<Subscriber> unsubscribes(Date unsubscribesFrom, Integer page, Integer pageSize, String orderField,
+            String orderDirection, ResultHandler<? super Subscriber> handler) throws CreateSendException {
+    	return unsubscribes(JsonProvider.formatDate(unsubscribesFrom),
+    			page, pageSize, orderField, orderDirection, handler);
+    }
+
     private PagedResult<Subscriber> unsubscribes(String unsubscribesFrom,
-        Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
+        Integer page, Integer pageSize, String orderField, String orderDirection,
+        ResultHandler<? super Subscriber> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", unsubscribesFrom);
         
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "campaigns", campaignID, "unsubscribes.json");
     }
 
@@ -444,7 +557,7 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<Subscriber> spamComplaints(
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return spamComplaints("", page, pageSize, orderField, orderDirection);
+    	return spamComplaints("", page, pageSize, orderField, orderDirection, null);
     }
 
     /**
@@ -461,16 +574,37 @@ public class Campaigns extends CreateSendBase {
      */
     public PagedResult<Subscriber> spamComplaints(Date spamComplaintsFrom,
             Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-    	return spamComplaints(JsonProvider.ApiDateFormat.format(spamComplaintsFrom),
-    			page, pageSize, orderField, orderDirection);
+    	return spamComplaints(JsonProvider.formatDate(spamComplaintsFrom),
+    			page, pageSize, orderField, orderDirection, null);
+    }
+
+    /**
+     * Streams a paged list of spam complaints for the specified campaign
+     * @param spamComplaintsFrom The date to start getting spam complaints from. This field is required
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param handler The handler to pass each of the spam complaints to as it is read from the response.
+     * @return The paging details of the spam complaints returned by the api call. The spam complaints themselves
+     * are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="http://www.campaignmonitor.com/api/campaigns/#campaign_spam_complaints" target="_blank">
+     * Campaign spam complaints</a>
+     */
+    public PagedResult<Subscriber> spamComplaints(Date spamComplaintsFrom, Integer page, Integer pageSize, String orderField,
+            String orderDirection, ResultHandler<? super Subscriber> handler) throws CreateSendException {
+    	return spamComplaints(JsonProvider.formatDate(spamComplaintsFrom),
+    			page, pageSize, orderField, orderDirection, handler);
     }
 
     private PagedResult<Subscriber> spamComplaints(String spamComplaintsFrom,
-        Integer page, Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
+        Integer page, Integer pageSize, String orderField, String orderDirection,
+        ResultHandler<? super Subscriber> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", spamComplaintsFrom);
 
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "campaigns", campaignID, "spam.json");
     }
 
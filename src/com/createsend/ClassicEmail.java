@@ -88,12 +88,16 @@ public class ClassicEmail extends CreateSendBase {
      * @throws CreateSendException
      */
     public MessageSent[] send(ClassicEmailRequest classicEmailRequest, String clientID) throws CreateSendException {
+        return send(clientID, classicEmailRequest);
+    }
+
+    MessageSent[] send(String clientID, Object body) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
 
         if (clientID != null) {
             queryString.add("clientID", clientID);
         }
 
-        return jerseyClient.post(MessageSent[].class, queryString, classicEmailRequest, "transactional", "classicEmail", "send");
+        return jerseyClient.post(MessageSent[].class, queryString, body, "transactional", "classicEmail", "send");
     }
 }
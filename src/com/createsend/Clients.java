@@ -44,6 +44,7 @@ import com.createsend.util.AuthenticationDetails;
 import com.createsend.util.JerseyClientImpl;
 import com.createsend.util.exceptions.CreateSendException;
 import com.createsend.util.jersey.JsonProvider;
+import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 import javax.ws.rs.core.MultivaluedMap;
@@ -54,6 +55,11 @@ import java.util.Date;
  * Client</a> resources in the Campaign Monitor API
  */
 public class Clients extends CreateSendBase {
+    private static final GenericType<PagedResult<SentCampaign>> SENT_CAMPAIGN_PAGE =
+        new GenericType<PagedResult<SentCampaign>>() {};
+    private static final GenericType<PagedResult<SuppressedSubscriber>> SUPPRESSED_SUBSCRIBER_PAGE =
+        new GenericType<PagedResult<SuppressedSubscriber>>() {};
+
     private String clientID;
 
     /**
@@ -184,8 +190,8 @@ public class Clients extends CreateSendBase {
             Date sentFromDate, Date sentToDate, String tags,
             Integer page, Integer pageSize, String orderDirection) throws CreateSendException {
         return sentCampaigns(
-                sentFromDate != null ? JsonProvider.ApiDateFormat.format(sentFromDate) : null,
-                sentToDate != null ? JsonProvider.ApiDateFormat.format(sentToDate) : null,
+                sentFromDate != null ? JsonProvider.formatDate(sentFromDate) : null,
+                sentToDate != null ? JsonProvider.formatDate(sentToDate) : null,
                 tags,
                 page, pageSize, orderDirection);
     }
@@ -198,7 +204,7 @@ public class Clients extends CreateSendBase {
         queryString.add("sentToDate", sentToDate);
         queryString.add("tags", tags);
 
-        return jerseyClient.getPagedResult(page, pageSize, null, orderDirection, queryString,
+        return jerseyClient.getPagedResult(SENT_CAMPAIGN_PAGE, page, pageSize, null, orderDirection, queryString,
                 "clients", clientID, "campaigns.json");
     }
    
@@ -276,7 +282,7 @@ public class Clients extends CreateSendBase {
     public PagedResult<SuppressedSubscriber> suppressionList(
         Integer page, Integer pageSize, String orderField, String orderDirection) 
         throws CreateSendException {
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection, null,
+        return jerseyClient.getPagedResult(SUPPRESSED_SUBSCRIBER_PAGE, page, pageSize, orderField, orderDirection, null,
             "clients", clientID, "suppressionlist.json");
     }
 
@@ -28,10 +28,12 @@ import javax.ws.rs.core.MediaType;
 
 import com.createsend.models.OAuthTokenDetails;
 import com.createsend.util.AuthenticationDetails;
+import com.createsend.util.ConcurrencyLimiter;
 import com.createsend.util.Configuration;
 import com.createsend.util.JerseyClient;
 import com.createsend.util.JerseyClientImpl;
 import com.createsend.util.OAuthAuthenticationDetails;
+import com.createsend.util.RetryPolicy;
 import com.createsend.util.exceptions.CreateSendException;
 
 public abstract class CreateSendBase {
@@ -39,6 +41,38 @@ public abstract class CreateSendBase {
 
 	protected JerseyClient jerseyClient = null;
 
+	/**
+	 * Sets the policy used to retry requests made by this instance which are rate limited
+	 * or fail with a server error.
+	 * @param retryPolicy The policy to use, or <code>null</code> to never retry.
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		this.jerseyClient.setRetryPolicy(retryPolicy);
+	}
+
+	/**
+	 * @return The policy used to retry requests made by this instance.
+	 */
+	public RetryPolicy getRetryPolicy() {
+		return this.jerseyClient.getRetryPolicy();
+	}
+
+	/**
+	 * Sets the limiter which adapts the number of requests made by this instance
+	 * that may be in flight at once.
+	 * @param concurrencyLimiter The limiter to use, or <code>null</code> to not limit concurrency.
+	 */
+	public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+		this.jerseyClient.setConcurrencyLimiter(concurrencyLimiter);
+	}
+
+	/**
+	 * @return The limiter used to adapt the number of requests in flight at once.
+	 */
+	public ConcurrencyLimiter getConcurrencyLimiter() {
+		return this.jerseyClient.getConcurrencyLimiter();
+	}
+
 	/**
 	 * Refresh the current OAuth token using the current refresh token.
 	 * 
@@ -10,12 +10,24 @@ import com.createsend.util.AuthenticationDetails;
 import com.createsend.util.JerseyClientImpl;
 import com.createsend.util.exceptions.CreateSendException;
 import com.createsend.util.jersey.JsonProvider;
+import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 import javax.ws.rs.core.MultivaluedMap;
 import java.util.Date;
 
 public class JourneyEmails extends CreateSendBase {
+    private static final GenericType<PagedResult<JourneyEmailRecipient>> JOURNEY_EMAIL_RECIPIENT_PAGE =
+        new GenericType<PagedResult<JourneyEmailRecipient>>() {};
+    private static final GenericType<PagedResult<JourneyEmailBounceDetail>> JOURNEY_EMAIL_BOUNCE_DETAIL_PAGE =
+        new GenericType<PagedResult<JourneyEmailBounceDetail>>() {};
+    private static final GenericType<PagedResult<JourneyEmailOpenDetail>> JOURNEY_EMAIL_OPEN_DETAIL_PAGE =
+        new GenericType<PagedResult<JourneyEmailOpenDetail>>() {};
+    private static final GenericType<PagedResult<JourneyEmailClickDetail>> JOURNEY_EMAIL_CLICK_DETAIL_PAGE =
+        new GenericType<PagedResult<JourneyEmailClickDetail>>() {};
+    private static final GenericType<PagedResult<JourneyEmailUnsubscribeDetail>> JOURNEY_EMAIL_UNSUBSCRIBE_DETAIL_PAGE =
+        new GenericType<PagedResult<JourneyEmailUnsubscribeDetail>>() {};
+
     private String journeyEmailID;
 
     public JourneyEmails(AuthenticationDetails auth, String journeyEmailID) {
@@ -62,7 +74,7 @@ public class JourneyEmails extends CreateSendBase {
      */
     public PagedResult<JourneyEmailRecipient> recipients(
             Date fromDate, Integer page, Integer pageSize, String orderDirection) throws CreateSendException {
-        return recipients(JsonProvider.ApiDateFormat.format(fromDate), page, pageSize, orderDirection);
+        return recipients(JsonProvider.formatDate(fromDate), page, pageSize, orderDirection);
     }
 
     private PagedResult<JourneyEmailRecipient> recipients(
@@ -70,7 +82,7 @@ public class JourneyEmails extends CreateSendBase {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", fromDate);
 
-        return jerseyClient.getPagedResult(page, pageSize, null, orderDirection, null,
+        return jerseyClient.getPagedResult(JOURNEY_EMAIL_RECIPIENT_PAGE, page, pageSize, null, orderDirection, null,
                 "journeys", "email", journeyEmailID, "recipients.json");
     }
 
@@ -113,7 +125,7 @@ public class JourneyEmails extends CreateSendBase {
      */
     public PagedResult<JourneyEmailBounceDetail> bounces(
             Date bouncesFrom, Integer page, Integer pageSize, String orderDirection) throws CreateSendException {
-        return bounces(JsonProvider.ApiDateFormat.format(bouncesFrom), page, pageSize,orderDirection);
+        return bounces(JsonProvider.formatDate(bouncesFrom), page, pageSize,orderDirection);
     }
 
     private PagedResult<JourneyEmailBounceDetail> bounces(
@@ -121,7 +133,7 @@ public class JourneyEmails extends CreateSendBase {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", bouncesFrom);
 
-        return jerseyClient.getPagedResult(page, pageSize, null, orderDirection, queryString,
+        return jerseyClient.getPagedResult(JOURNEY_EMAIL_BOUNCE_DETAIL_PAGE, page, pageSize, null, orderDirection, queryString,
                 "journeys", "email", journeyEmailID, "bounces.json");
     }
 
@@ -164,7 +176,7 @@ public class JourneyEmails extends CreateSendBase {
      */
     public PagedResult<JourneyEmailOpenDetail> opens(
             Date opensFrom, Integer page, Integer pageSize, String orderDirection) throws CreateSendException {
-        return opens(JsonProvider.ApiDateFormat.format(opensFrom), page, pageSize,orderDirection);
+        return opens(JsonProvider.formatDate(opensFrom), page, pageSize,orderDirection);
     }
 
     private PagedResult<JourneyEmailOpenDetail> opens(
@@ -172,7 +184,7 @@ public class JourneyEmails extends CreateSendBase {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", opensFrom);
 
-        return jerseyClient.getPagedResult(page, pageSize, null, orderDirection,
+        return jerseyClient.getPagedResult(JOURNEY_EMAIL_OPEN_DETAIL_PAGE, page, pageSize, null, orderDirection,
                 queryString, "journeys", "email", journeyEmailID, "opens.json");
     }
 
@@ -215,7 +227,7 @@ public class JourneyEmails extends CreateSendBase {
      */
     public PagedResult<JourneyEmailClickDetail> clicks(
             Date clicksFrom, Integer page, Integer pageSize, String orderDirection) throws CreateSendException {
-        return clicks(JsonProvider.ApiDateFormat.format(clicksFrom), page, pageSize, orderDirection);
+        return clicks(JsonProvider.formatDate(clicksFrom), page, pageSize, orderDirection);
     }
 
     private PagedResult<JourneyEmailClickDetail> clicks(
@@ -223,7 +235,7 @@ public class JourneyEmails extends CreateSendBase {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", clicksFrom);
 
-        return jerseyClient.getPagedResult(page, pageSize, null, orderDirection,
+        return jerseyClient.getPagedResult(JOURNEY_EMAIL_CLICK_DETAIL_PAGE, page, pageSize, null, orderDirection,
                 queryString, "journeys", "email", journeyEmailID, "clicks.json");
     }
 
@@ -266,7 +278,7 @@ public class JourneyEmails extends CreateSendBase {
      */
     public PagedResult<JourneyEmailUnsubscribeDetail> unsubscribes(
             Date unsubscribesFrom, Integer page, Integer pageSize, String orderDirection) throws CreateSendException {
-        return unsubscribes(JsonProvider.ApiDateFormat.format(unsubscribesFrom), page, pageSize, orderDirection);
+        return unsubscribes(JsonProvider.formatDate(unsubscribesFrom), page, pageSize, orderDirection);
     }
 
     private PagedResult<JourneyEmailUnsubscribeDetail> unsubscribes(
@@ -274,7 +286,7 @@ public class JourneyEmails extends CreateSendBase {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl();
         queryString.add("date", unsubscribesFrom);
 
-        return jerseyClient.getPagedResult(page, pageSize, null, orderDirection,
+        return jerseyClient.getPagedResult(JOURNEY_EMAIL_UNSUBSCRIBE_DETAIL_PAGE, page, pageSize, null, orderDirection,
                 queryString, "journeys", "email", journeyEmailID, "unsubscribes.json");
     }
 }
@@ -36,8 +36,10 @@ import com.createsend.models.subscribers.SubscriberWithJoinedDate;
 import com.createsend.util.AuthenticationDetails;
 import com.createsend.util.ErrorDeserialiser;
 import com.createsend.util.JerseyClientImpl;
+import com.createsend.util.ResultHandler;
 import com.createsend.util.exceptions.CreateSendException;
 import com.createsend.util.jersey.JsonProvider;
+import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 import javax.ws.rs.core.MultivaluedMap;
@@ -48,6 +50,9 @@ import java.util.Date;
  * List</a> resources in the Campaign Monitor API *
  */
 public class Lists extends CreateSendBase {
+    private static final GenericType<PagedResult<SubscriberWithJoinedDate>> SUBSCRIBER_WITH_JOINED_DATE_PAGE =
+        new GenericType<PagedResult<SubscriberWithJoinedDate>>() {};
+
     private String listID;
 
     /**
@@ -205,7 +210,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> active(Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-        return active("", page, pageSize, orderField, orderDirection, false);
+        return active("", page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -222,7 +227,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> active(Integer page, Integer pageSize, String orderField,
         String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return active("", page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return active("", page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
 
     /**
@@ -241,8 +246,8 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> active(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-        return active(JsonProvider.ApiDateFormat.format(subscribedFrom),
-                page, pageSize, orderField, orderDirection, false);
+        return active(JsonProvider.formatDate(subscribedFrom),
+                page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -262,17 +267,42 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> active(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return active(JsonProvider.ApiDateFormat.format(subscribedFrom),
-            page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return active(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
     
+    /**
+     * Streams a paged collection of active subscribers who have subscribed to the list
+     * since the provided date.
+     * @param subscribedFrom The API will only return subscribers who became active on or after this date.
+     *     This field is required
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param includeTrackingPreference To include subscriber consent to track value in the results.
+     * @param handler The handler to pass each subscriber to as it is read from the response.
+     * @return The paging details of the subscribers returned by the api call. The subscribers
+     *     themselves are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="https://www.campaignmonitor.com/api/lists/#active-subscribers" target="_blank">
+     * Getting active subscribers</a>
+     */
+    public PagedResult<SubscriberWithJoinedDate> active(Date subscribedFrom, Integer page, Integer pageSize,
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
+        return active(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, handler);
+    }
+
     private PagedResult<SubscriberWithJoinedDate> active(String subscribedFrom, Integer page, Integer pageSize,
-        String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl(); 
         queryString.add("date", subscribedFrom);
         queryString.add("includetrackingpreference", String.valueOf(includeTrackingPreference));
 
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_WITH_JOINED_DATE_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "lists", listID, "active.json");
     }
 
@@ -312,7 +342,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unconfirmed(Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-        return unconfirmed("", page, pageSize, orderField, orderDirection, false);
+        return unconfirmed("", page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -329,7 +359,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unconfirmed(Integer page, Integer pageSize, String orderField,
         String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return unconfirmed("", page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return unconfirmed("", page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
 
     /**
@@ -348,8 +378,8 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unconfirmed(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-        return unconfirmed(JsonProvider.ApiDateFormat.format(subscribedFrom),
-                page, pageSize, orderField, orderDirection, false);
+        return unconfirmed(JsonProvider.formatDate(subscribedFrom),
+                page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -369,17 +399,42 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unconfirmed(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return unconfirmed(JsonProvider.ApiDateFormat.format(subscribedFrom),
-            page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return unconfirmed(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
     
+    /**
+     * Streams a paged collection of unconfirmed subscribers who have subscribed to the list
+     * since the provided date.
+     * @param subscribedFrom The API will only return subscribers who subscribed on or after this date.
+     *     This field is required
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param includeTrackingPreference To include subscriber consent to track value in the results.
+     * @param handler The handler to pass each subscriber to as it is read from the response.
+     * @return The paging details of the subscribers returned by the api call. The subscribers
+     *     themselves are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="https://www.campaignmonitor.com/api/lists/#unconfirmed-subscribers" target="_blank">
+     * Getting active subscribers</a>
+     */
+    public PagedResult<SubscriberWithJoinedDate> unconfirmed(Date subscribedFrom, Integer page, Integer pageSize,
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
+        return unconfirmed(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, handler);
+    }
+
     private PagedResult<SubscriberWithJoinedDate> unconfirmed(String subscribedFrom, Integer page,
-        Integer pageSize, String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
+        Integer pageSize, String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl(); 
         queryString.add("date", subscribedFrom);
         queryString.add("includetrackingpreference", String.valueOf(includeTrackingPreference));
 
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_WITH_JOINED_DATE_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "lists", listID, "unconfirmed.json");
     }
 
@@ -420,7 +475,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unsubscribed(Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-        return unsubscribed("", page, pageSize, orderField, orderDirection, false);
+        return unsubscribed("", page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -437,7 +492,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unsubscribed(Integer page, Integer pageSize,
         String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return unsubscribed("", page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return unsubscribed("", page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
 
     /**
@@ -455,8 +510,8 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unsubscribed(Date subscribedFrom, Integer page,
         Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-        return unsubscribed(JsonProvider.ApiDateFormat.format(subscribedFrom),
-                page, pageSize, orderField, orderDirection, false);
+        return unsubscribed(JsonProvider.formatDate(subscribedFrom),
+                page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -475,18 +530,42 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> unsubscribed(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return unsubscribed(JsonProvider.ApiDateFormat.format(subscribedFrom),
-            page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return unsubscribed(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
 
 
+    /**
+     * Streams a paged collection of unsubscribed subscribers who have unsubscribed from the list
+     * since the provided date.
+     * @param subscribedFrom The API will only return subscribers who unsubscribed on or after this date.
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param includeTrackingPreference To include subscriber consent to track value in the results.
+     * @param handler The handler to pass each subscriber to as it is read from the response.
+     * @return The paging details of the subscribers returned by the api call. The subscribers
+     *     themselves are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="https://www.campaignmonitor.com/api/lists/#unsubscribed-subscribers" target="_blank">
+     * Getting unsubscribed subscribers</a>
+     */
+    public PagedResult<SubscriberWithJoinedDate> unsubscribed(Date subscribedFrom, Integer page, Integer pageSize,
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
+        return unsubscribed(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, handler);
+    }
+
     private PagedResult<SubscriberWithJoinedDate> unsubscribed(String subscribedFrom, Integer page, Integer pageSize,
-        String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl(); 
         queryString.add("date", subscribedFrom);
         queryString.add("includetrackingpreference", String.valueOf(includeTrackingPreference));
 
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_WITH_JOINED_DATE_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "lists", listID, "unsubscribed.json");
     }
 
@@ -526,7 +605,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> deleted(Integer page, Integer pageSize, String orderField,
         String orderDirection) throws CreateSendException {
-        return deleted("", page, pageSize, orderField, orderDirection, false);
+        return deleted("", page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -543,7 +622,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> deleted(Integer page, Integer pageSize, String orderField,
         String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return deleted("", page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return deleted("", page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
 
     /**
@@ -561,8 +640,8 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> deleted(Date subscribedFrom,Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-        return deleted(JsonProvider.ApiDateFormat.format(subscribedFrom),
-                page, pageSize, orderField, orderDirection, false);
+        return deleted(JsonProvider.formatDate(subscribedFrom),
+                page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -581,17 +660,41 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> deleted(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return deleted(JsonProvider.ApiDateFormat.format(subscribedFrom),
-            page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return deleted(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
     
+    /**
+     * Streams a paged collection of subscribers who have been deleted from the list
+     * since the provided date.
+     * @param subscribedFrom The API will only return subscribers who were deleted on or after this date.
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param includeTrackingPreference To include subscriber consent to track value in the results.
+     * @param handler The handler to pass each subscriber to as it is read from the response.
+     * @return The paging details of the subscribers returned by the api call. The subscribers
+     *     themselves are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="https://www.campaignmonitor.com/api/lists/#deleted-subscribers" target="_blank">
+     * Getting deleted subscribers</a>
+     */
+    public PagedResult<SubscriberWithJoinedDate> deleted(Date subscribedFrom, Integer page, Integer pageSize,
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
+        return deleted(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, handler);
+    }
+
     private PagedResult<SubscriberWithJoinedDate> deleted(String subscribedFrom, Integer page, Integer pageSize,
-        String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl(); 
         queryString.add("date", subscribedFrom);
         queryString.add("includetrackingpreference", String.valueOf(includeTrackingPreference));
 
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_WITH_JOINED_DATE_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "lists", listID, "deleted.json");
     }
     
@@ -631,7 +734,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> bounced(Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-        return bounced("", page, pageSize, orderField, orderDirection, false);
+        return bounced("", page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -648,7 +751,7 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> bounced(Integer page, Integer pageSize, String orderField,
         String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return bounced("", page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return bounced("", page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
     }
 
     /**
@@ -666,8 +769,8 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> bounced(Date subscribedFrom, Integer page,
         Integer pageSize, String orderField, String orderDirection) throws CreateSendException {
-        return bounced(JsonProvider.ApiDateFormat.format(subscribedFrom),
-                page, pageSize, orderField, orderDirection, false);
+        return bounced(JsonProvider.formatDate(subscribedFrom),
+                page, pageSize, orderField, orderDirection, false, null);
     }
 
     /**
@@ -686,17 +789,41 @@ public class Lists extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> bounced(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return bounced(JsonProvider.ApiDateFormat.format(subscribedFrom),
-            page, pageSize, orderField, orderDirection, includeTrackingPreference);
+        return bounced(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, null);
+    }
+
+    /**
+     * Streams a paged collection of bounced subscribers who have bounced out of the list
+     * since the provided date.
+     * @param subscribedFrom The API will only return subscribers who bounced out on or after this date.
+     * @param page The page number of results to get. Use <code>null</code> for the default (page=1)
+     * @param pageSize The number of records to get on the current page. Use <code>null</code> for the default.
+     * @param orderField The field used to order the results by. Use <code>null</code> for the default.
+     * @param orderDirection The direction to order the results by. Use <code>null</code> for the default.
+     * @param includeTrackingPreference To include subscriber consent to track value in the results.
+     * @param handler The handler to pass each subscriber to as it is read from the response.
+     * @return The paging details of the subscribers returned by the api call. The subscribers
+     *     themselves are passed to the handler rather than returned in {@link PagedResult#Results}.
+     * @throws CreateSendException Thrown when the API responds with a HTTP Status >= 400
+     * @see <a href="https://www.campaignmonitor.com/api/lists/#bounced-subscribers" target="_blank">
+     * Getting bounced subscribers</a>
+     */
+    public PagedResult<SubscriberWithJoinedDate> bounced(Date subscribedFrom, Integer page, Integer pageSize,
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
+        return bounced(JsonProvider.formatDate(subscribedFrom),
+            page, pageSize, orderField, orderDirection, includeTrackingPreference, handler);
     }
 
     private PagedResult<SubscriberWithJoinedDate> bounced(String subscribedFrom, Integer page, Integer pageSize,
-        String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
+        String orderField, String orderDirection, boolean includeTrackingPreference,
+        ResultHandler<? super SubscriberWithJoinedDate> handler) throws CreateSendException {
         MultivaluedMap<String, String> queryString = new MultivaluedMapImpl(); 
         queryString.add("date", subscribedFrom);
         queryString.add("includetrackingpreference", String.valueOf(includeTrackingPreference));
 
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_WITH_JOINED_DATE_PAGE, handler, page, pageSize, orderField, orderDirection,
             queryString, "lists", listID, "bounced.json");
     }
     
@@ -26,15 +26,26 @@ import com.createsend.models.transactional.response.MessageLogItem;
 import com.createsend.models.transactional.response.MessageSent;
 import com.createsend.models.transactional.response.TransactionalStatistics;
 import com.createsend.util.AuthenticationDetails;
+import com.createsend.util.BatchResult;
 import com.createsend.util.JerseyClientImpl;
+import com.createsend.util.MergedTimelineIterator;
+import com.createsend.util.TimelineIterator;
 import com.createsend.util.exceptions.CreateSendException;
+import com.createsend.util.jersey.ApiDates;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 import javax.ws.rs.core.MultivaluedMap;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * Provides methods for accessing all <a href="http://www.campaignmonitor.com/api/transactional/messages/" target="_blank">
@@ -72,6 +83,72 @@ public class Messages extends CreateSendBase {
         return jerseyClient.get(Message.class, queryString, "transactional", "messages", messageID.toString());
     }
 
+    /**
+     * Gets many messages, making up to <code>parallelism</code> requests at once on the
+     * executor. Requests are still subject to any rate limit set for these credentials. A
+     * message which cannot be fetched, for example because it does not exist, is recorded as
+     * a failure without affecting the rest of the batch. An Error thrown while fetching any
+     * message is rethrown once the whole batch has finished.
+     * @param messageIDs the message ids to get.
+     * @param includeStatistics include statistics.
+     * @param executor the executor to make requests on.
+     * @param parallelism the most requests to make at once.
+     * @return the messages fetched, and the exception each failed fetch threw.
+     * @throws CreateSendException if interrupted while waiting for the batch.
+     */
+    public BatchResult<UUID, Message> get(Collection<UUID> messageIDs, final boolean includeStatistics,
+        Executor executor, int parallelism) throws CreateSendException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Must allow at least one request at a time");
+        }
+
+        final UUID[] ids = messageIDs.toArray(new UUID[messageIDs.size()]);
+        final Message[] messages = new Message[ids.length];
+        final Throwable[] failures = new Throwable[ids.length];
+        final Semaphore inFlight = new Semaphore(parallelism);
+
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                final int index = i;
+                inFlight.acquire();
+                try {
+                    executor.execute(new Runnable() {
+                        public void run() {
+                            try {
+                                messages[index] = get(ids[index], includeStatistics);
+                            } catch (Throwable t) {
+                                // Errors are caught too, or the message would be reported as fetched
+                                failures[index] = t;
+                            } finally {
+                                inFlight.release();
+                            }
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    failures[index] = e;
+                }
+            }
+            inFlight.acquire(parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CreateSendException("Interrupted while getting messages");
+        }
+
+        Map<UUID, Message> results = new LinkedHashMap<UUID, Message>();
+        Map<UUID, Exception> failed = new LinkedHashMap<UUID, Exception>();
+        for (int i = 0; i < ids.length; i++) {
+            if (failures[i] instanceof Error) {
+                throw (Error)failures[i];
+            } else if (failures[i] != null) {
+                failed.put(ids[i], (Exception)failures[i]);
+            } else {
+                results.put(ids[i], messages[i]);
+            }
+        }
+        return new BatchResult<UUID, Message>(results, failed);
+    }
+
     /**
      * Gets statistics for a range of messages.
      * @param clientID optional Client ID to filter.
@@ -98,17 +175,12 @@ public class Messages extends CreateSendBase {
             queryString.add("group", group);
         }
 
-        // TODO Constant somewhere (JsonProvider.ApiDateFormatNoTime?)
-        final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-
         if (from != null) {
-            String fromStr = dateFormat.format(from);
-            queryString.add("from", fromStr);
+            queryString.add("from", ApiDates.formatDay(from));
         }
 
         if (to != null) {
-            String toStr = dateFormat.format(to);
-            queryString.add("to", toStr);
+            queryString.add("to", ApiDates.formatDay(to));
         }
 
         if (timezone != null) {
@@ -173,4 +245,64 @@ public class Messages extends CreateSendBase {
 
         return jerseyClient.get(MessageLogItem[].class, queryString, "transactional", "messages");
     }
+
+    /**
+     * Iterates over the whole delivery log, newest message first, following the sentBeforeID
+     * cursor from one window to the next and fetching each window while the previous one is
+     * consumed.
+     * @param clientID optional Client ID to filter.
+     * @param count optional count, number of messages to retrieve in each window.
+     * @param status optional message status filter.
+     * @param smartEmailID optional filter to a specific smart email.
+     * @param group optional filter to a specific group.
+     * @param executor the executor to fetch the next window on, or null to fetch each window when needed.
+     * @return an iterator over the delivery log.
+     */
+    public TimelineIterator timelineIterator(final String clientID, final Integer count, final String status,
+        final UUID smartEmailID, final String group, Executor executor) {
+        return TimelineIterator.history((before, after) ->
+            timeline(clientID, before, after, count, status, smartEmailID, group), executor);
+    }
+
+    /**
+     * Iterates over the delivery logs of several clients as a single log, newest message first.
+     * Each client's log is followed with its own cursor, fetching ahead on the executor, and
+     * the logs are merged by the time each message was sent.
+     * @param clientIDs the Client IDs whose logs to merge.
+     * @param count optional count, number of messages to retrieve in each window.
+     * @param status optional message status filter.
+     * @param smartEmailID optional filter to a specific smart email.
+     * @param group optional filter to a specific group.
+     * @param executor the executor to fetch windows on.
+     * @return an iterator over the merged delivery log.
+     */
+    public Iterator<MessageLogItem> mergedTimelineIterator(Collection<String> clientIDs, Integer count,
+        String status, UUID smartEmailID, String group, Executor executor) {
+        List<TimelineIterator> timelines = new ArrayList<TimelineIterator>(clientIDs.size());
+        for (String clientID : clientIDs) {
+            timelines.add(timelineIterator(clientID, count, status, smartEmailID, group, executor));
+        }
+        return new MergedTimelineIterator(timelines, executor);
+    }
+
+    /**
+     * Follows new messages in the delivery log as they are sent, oldest first, polling with
+     * the sentAfterID cursor. Polls are made back to back while new messages keep arriving,
+     * and otherwise back off between the minimum and maximum intervals.
+     * @param clientID optional Client ID to filter.
+     * @param sentAfterID optional message to follow on from, otherwise the newest message in the log.
+     * @param count optional count, number of messages to retrieve in each poll.
+     * @param status optional message status filter.
+     * @param smartEmailID optional filter to a specific smart email.
+     * @param group optional filter to a specific group.
+     * @param minPollInterval the shortest time in milliseconds between polls finding no messages.
+     * @param maxPollInterval the longest time in milliseconds between polls.
+     * @return an iterator which blocks waiting for new messages until the thread is interrupted.
+     */
+    public TimelineIterator tailTimeline(final String clientID, UUID sentAfterID, final Integer count,
+        final String status, final UUID smartEmailID, final String group, long minPollInterval, long maxPollInterval) {
+        return TimelineIterator.tail((before, after) ->
+            timeline(clientID, before, after, count, status, smartEmailID, group),
+            sentAfterID, minPollInterval, maxPollInterval);
+    }
 }
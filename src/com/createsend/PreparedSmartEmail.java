@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import com.createsend.models.transactional.request.SmartEmailRequest;
+import com.createsend.models.transactional.response.MessageSent;
+import com.createsend.util.exceptions.CreateSendException;
+import com.createsend.util.jersey.JsonProvider;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A Smart Email send prepared from a template {@link SmartEmailRequest}, for sending the
+ * same email to many recipients.
+ *
+ * Everything in the template other than its To recipients, such as the Cc and Bcc
+ * recipients, attachments, consent to track setting and data, is serialised once when the
+ * send is prepared. Each send then only writes its recipient and data variables, copying the
+ * rest of the request body from the prepared bytes, so no request objects are built and no
+ * reflective serialisation is done per send.
+ *
+ * The template is serialised when the send is prepared, so changes made to it afterwards
+ * are not sent, and an attachment read from a stream can be sent to any number of recipients.
+ * A prepared send is safe to use from multiple threads.
+ */
+public class PreparedSmartEmail {
+    private static final ObjectMapper mapper = JsonProvider.createObjectMapper();
+    private static final JsonFactory factory =
+        new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final SerializedString TO = new SerializedString("to");
+    private static final SerializedString DATA = new SerializedString("data");
+
+    private final SmartEmail smartEmail;
+    private final UUID smartEmailId;
+    private final SerializedString[] dataNames;
+    private final SerializedString[] dataValues;
+    private final SerializedString[] fieldNames;
+    private final SerializedString[] fieldValues;
+
+    PreparedSmartEmail(SmartEmail smartEmail, SmartEmailRequest template) throws IOException {
+        this.smartEmail = smartEmail;
+        this.smartEmailId = template.getSmartEmailId();
+
+        Map<String, String> data = template.getData();
+        dataNames = new SerializedString[data.size()];
+        dataValues = new SerializedString[data.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : data.entrySet()) {
+            dataNames[i] = new SerializedString(entry.getKey());
+            dataValues[i] = entry.getValue() == null ? null : new SerializedString(entry.getValue());
+            i++;
+        }
+
+        ObjectNode request = (ObjectNode)mapper.readTree(mapper.writeValueAsBytes(template));
+        request.remove(TO.getValue());
+        request.remove(DATA.getValue());
+        fieldNames = new SerializedString[request.size()];
+        fieldValues = new SerializedString[request.size()];
+        i = 0;
+        for (Iterator<Map.Entry<String, JsonNode>> fields = request.fields(); fields.hasNext(); i++) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            fieldNames[i] = new SerializedString(field.getKey());
+            fieldValues[i] = new SerializedString(mapper.writeValueAsString(field.getValue()));
+        }
+    }
+
+    /**
+     * @return The SmartEmailID of the email sent.
+     */
+    public UUID getSmartEmailId() {
+        return smartEmailId;
+    }
+
+    /**
+     * Sends the email to a single recipient with the template's data.
+     * @param to The recipient of the email.
+     * @return Message sent acknowledgement.
+     * @throws CreateSendException
+     */
+    public MessageSent[] send(String to) throws CreateSendException {
+        return send(to, null);
+    }
+
+    /**
+     * Sends the email to a single recipient.
+     * @param to The recipient of the email.
+     * @param data Data merge variables for this recipient, added to the template's data.
+     * Variables with the same name as one in the template replace it. May be <code>null</code>.
+     * @return Message sent acknowledgement.
+     * @throws CreateSendException
+     */
+    public MessageSent[] send(String to, Map<String, String> data) throws CreateSendException {
+        if (to == null || to.length() == 0) {
+            throw new IllegalArgumentException("Must supply a TO address");
+        }
+
+        return smartEmail.send(smartEmailId, new Body(Collections.singletonList(to), data));
+    }
+
+    /**
+     * Sends the email to a number of recipients sharing the same data.
+     * @param to The recipients of the email.
+     * @param data Data merge variables for these recipients, added to the template's data.
+     * Variables with the same name as one in the template replace it. May be <code>null</code>.
+     * @return Message sent acknowledgement.
+     * @throws CreateSendException
+     */
+    public MessageSent[] send(List<String> to, Map<String, String> data) throws CreateSendException {
+        if (to == null || to.isEmpty()) {
+            throw new IllegalArgumentException("Must supply a TO address");
+        }
+
+        return smartEmail.send(smartEmailId, new Body(new ArrayList<String>(to), data));
+    }
+
+    private class Body implements StreamingOutput {
+        private final List<String> to;
+        private final Map<String, String> data;
+
+        Body(List<String> to, Map<String, String> data) {
+            this.to = to;
+            this.data = data == null ? Collections.<String, String>emptyMap() : data;
+        }
+
+        @Override
+        public void write(OutputStream output) throws IOException {
+            JsonGenerator gen = factory.createGenerator(output);
+            gen.writeStartObject();
+
+            gen.writeFieldName(TO);
+            gen.writeStartArray();
+            for (int i = 0; i < to.size(); i++) {
+                gen.writeString(to.get(i));
+            }
+            gen.writeEndArray();
+
+            gen.writeFieldName(DATA);
+            gen.writeStartObject();
+            for (int i = 0; i < dataNames.length; i++) {
+                if (data.containsKey(dataNames[i].getValue())) {
+                    continue;
+                }
+
+                gen.writeFieldName(dataNames[i]);
+                if (dataValues[i] == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(dataValues[i]);
+                }
+            }
+            for (Map.Entry<String, String> entry : data.entrySet()) {
+                gen.writeStringField(entry.getKey(), entry.getValue());
+            }
+            gen.writeEndObject();
+
+            for (int i = 0; i < fieldNames.length; i++) {
+                gen.writeFieldName(fieldNames[i]);
+                gen.writeRawValue(fieldValues[i]);
+            }
+            gen.writeEndObject();
+            gen.close();
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.createsend.util.ErrorDeserialiser;
 import com.createsend.util.JerseyClientImpl;
 import com.createsend.util.exceptions.CreateSendException;
 import com.createsend.util.jersey.JsonProvider;
+import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 import javax.ws.rs.core.MultivaluedMap;
@@ -42,6 +43,9 @@ import java.util.Date;
  * Segment</a> resources in the Campaign Monitor API
  */
 public class Segments extends CreateSendBase {
+    private static final GenericType<PagedResult<SubscriberWithJoinedDate>> SUBSCRIBER_WITH_JOINED_DATE_PAGE =
+        new GenericType<PagedResult<SubscriberWithJoinedDate>>() {};
+
     private String segmentID;
     
     /**
@@ -208,7 +212,7 @@ public class Segments extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> active(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection) throws CreateSendException {
-    	return active(JsonProvider.ApiDateFormat.format(subscribedFrom),
+    	return active(JsonProvider.formatDate(subscribedFrom),
     			page, pageSize, orderField, orderDirection, false);
     }
 
@@ -229,7 +233,7 @@ public class Segments extends CreateSendBase {
      */
     public PagedResult<SubscriberWithJoinedDate> active(Date subscribedFrom, Integer page, Integer pageSize,
         String orderField, String orderDirection, boolean includeTrackingPreference) throws CreateSendException {
-        return active(JsonProvider.ApiDateFormat.format(subscribedFrom),
+        return active(JsonProvider.formatDate(subscribedFrom),
             page, pageSize, orderField, orderDirection, includeTrackingPreference);
     }
 
@@ -239,7 +243,7 @@ public class Segments extends CreateSendBase {
         queryString.add("date", subscribedFrom);
         queryString.add("includetrackingpreference", String.valueOf(includeTrackingPreference));
 
-        return jerseyClient.getPagedResult(page, pageSize, orderField, orderDirection,
+        return jerseyClient.getPagedResult(SUBSCRIBER_WITH_JOINED_DATE_PAGE, page, pageSize, orderField, orderDirection,
             queryString, "segments", segmentID, "active.json");
     }
     
@@ -26,12 +26,18 @@ import com.createsend.models.transactional.response.MessageSent;
 import com.createsend.models.transactional.response.SmartEmailDetails;
 import com.createsend.models.transactional.response.SmartEmailItem;
 import com.createsend.models.transactional.response.SmartEmailStatus;
+import com.createsend.util.ApiCall;
 import com.createsend.util.AuthenticationDetails;
 import com.createsend.util.JerseyClientImpl;
+import com.createsend.util.SendDeduplicator;
 import com.createsend.util.exceptions.CreateSendException;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 import javax.ws.rs.core.MultivaluedMap;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 /**
@@ -39,6 +45,7 @@ import java.util.UUID;
  * Transactional Smart Email</a> resources in the Campaign Monitor API
  */
 public class SmartEmail extends CreateSendBase {
+    private SendDeduplicator deduplicator;
 
     /**
      * @param auth The authentication details to use when making API calls.
@@ -115,6 +122,89 @@ public class SmartEmail extends CreateSendBase {
      * @throws CreateSendException
      */
     public MessageSent[] send(SmartEmailRequest smartEmailRequest) throws CreateSendException {
-        return jerseyClient.post(MessageSent[].class, smartEmailRequest, "transactional", "smartEmail", smartEmailRequest.getSmartEmailId().toString(), "send");
+        if (deduplicator == null) {
+            return send(smartEmailRequest.getSmartEmailId(), smartEmailRequest);
+        }
+        return send(smartEmailRequest, getDeduplicationKey(smartEmailRequest));
+    }
+
+    /**
+     * Send a SmartEmail, suppressing duplicates with the same key if a deduplicator is set.
+     * @param smartEmailRequest The SmartEmailRequest to send.
+     * @param deduplicationKey The key identifying this send, for example the ID of the
+     * receipt being sent, or <code>null</code> to send without checking for duplicates.
+     * @return Message sent acknowledgement, which is that of the original send for a duplicate.
+     * @throws CreateSendException
+     */
+    public MessageSent[] send(final SmartEmailRequest smartEmailRequest, String deduplicationKey) throws CreateSendException {
+        if (deduplicator == null || deduplicationKey == null) {
+            return send(smartEmailRequest.getSmartEmailId(), smartEmailRequest);
+        }
+
+        return deduplicator.send(deduplicationKey, this, new ApiCall<SmartEmail, MessageSent[]>() {
+            public MessageSent[] call(SmartEmail endpoint) throws CreateSendException {
+                return endpoint.send(smartEmailRequest.getSmartEmailId(), smartEmailRequest);
+            }
+        });
+    }
+
+    /**
+     * Sets the deduplicator used to suppress repeated sends. Unless a key is given, sends
+     * are duplicates when they have the same SmartEmailID, recipients and data.
+     * @param deduplicator The deduplicator to use, or <code>null</code> to send every request.
+     */
+    public void setDeduplicator(SendDeduplicator deduplicator) {
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * @return The deduplicator used to suppress repeated sends.
+     */
+    public SendDeduplicator getDeduplicator() {
+        return deduplicator;
+    }
+
+    private static String getDeduplicationKey(SmartEmailRequest smartEmailRequest) {
+        StringBuilder key = new StringBuilder(smartEmailRequest.getSmartEmailId().toString());
+        appendKeyPart(key.append("\nto"), smartEmailRequest.getTo());
+        appendKeyPart(key.append("\ncc"), smartEmailRequest.getCc());
+        appendKeyPart(key.append("\nbcc"), smartEmailRequest.getBcc());
+        key.append("\ndata");
+        for (Map.Entry<String, String> entry : new TreeMap<String, String>(smartEmailRequest.getData()).entrySet()) {
+            appendKeyPart(key, entry.getKey());
+            appendKeyPart(key, entry.getValue());
+        }
+        return key.toString();
+    }
+
+    private static void appendKeyPart(StringBuilder key, Iterator<String> values) {
+        while (values.hasNext()) {
+            appendKeyPart(key, values.next());
+        }
+    }
+
+    private static void appendKeyPart(StringBuilder key, String value) {
+        // Length prefixed so values containing separators cannot run together
+        if (value == null) {
+            key.append("-1:");
+        } else {
+            key.append(value.length()).append(':').append(value);
+        }
+    }
+
+    /**
+     * Prepares a SmartEmail for sending to many recipients. Everything in the template other
+     * than its To recipients is serialised once, and copied into the request for each send.
+     * @param template The SmartEmailRequest to send. Its To recipients are ignored.
+     * @return The prepared send.
+     * @throws IOException If the template could not be serialised, for example because
+     * an attachment could not be read.
+     */
+    public PreparedSmartEmail prepare(SmartEmailRequest template) throws IOException {
+        return new PreparedSmartEmail(this, template);
+    }
+
+    MessageSent[] send(UUID smartEmailId, Object body) throws CreateSendException {
+        return jerseyClient.post(MessageSent[].class, body, "transactional", "smartEmail", smartEmailId.toString(), "send");
     }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.createsend.models.subscribers.FailedImportSubscriber;
+import com.createsend.models.subscribers.ImportResult;
+import com.createsend.models.subscribers.Subscriber;
+import com.createsend.models.subscribers.SubscriberToAdd;
+import com.createsend.models.subscribers.SubscribersToAdd;
+import com.createsend.util.exceptions.BadRequestException;
+
+/**
+ * Coalesces individual subscriber adds into {@link Subscribers#addMany(SubscribersToAdd)} imports.
+ *
+ * Subscribers are buffered until either <code>maxBatchSize</code> of them are waiting or
+ * <code>maxDelay</code> milliseconds have passed since the first of them was added, and are
+ * then imported in a single API call on the given scheduler. Each caller's future completes
+ * with the email address of the subscriber, as {@link Subscribers#add(SubscriberToAdd)} would
+ * return, or exceptionally with a {@link BadRequestException} built from the matching
+ * {@link FailedImportSubscriber} in the import result.
+ *
+ * Subscribers with different Resubscribe or RestartSubscriptionBasedAutoresponders settings
+ * are imported in separate batches, and adding an email address already waiting in a batch
+ * sends that batch first so the later add takes effect.
+ */
+public class SubscriberBatcher implements Closeable {
+    private final Subscribers subscribers;
+    private final ScheduledExecutorService scheduler;
+    private final int maxBatchSize;
+    private final long maxDelay;
+    private final Map<Integer, Batch> batches = new HashMap<Integer, Batch>();
+    private boolean closed;
+
+    /**
+     * @param subscribers The list to add subscribers to
+     * @param scheduler The executor to send imports on
+     * @param maxBatchSize The most subscribers to import in a single call, at most 1000
+     * @param maxDelay The longest time in milliseconds to buffer a subscriber for
+     */
+    public SubscriberBatcher(Subscribers subscribers, ScheduledExecutorService scheduler,
+        int maxBatchSize, long maxDelay) {
+        if (maxBatchSize < 1 || maxBatchSize > 1000) {
+            throw new IllegalArgumentException("Batch size must be between 1 and 1000");
+        }
+
+        this.subscribers = subscribers;
+        this.scheduler = scheduler;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Queues a subscriber to be added to the list.
+     * @param subscriber The subscriber to add
+     * @return A future completed with the email address of the subscriber once it has been added
+     */
+    public CompletableFuture<String> add(SubscriberToAdd subscriber) {
+        CompletableFuture<String> future = new CompletableFuture<String>();
+        String email = getKey(subscriber.EmailAddress);
+        Integer flags = (subscriber.Resubscribe ? 1 : 0) | (subscriber.RestartSubscriptionBasedAutoresponders ? 2 : 0);
+
+        synchronized (this) {
+            if (closed) {
+                future.completeExceptionally(new IllegalStateException("The batcher has been closed"));
+                return future;
+            }
+
+            Batch batch = batches.get(flags);
+            if (batch != null && batch.futures.containsKey(email)) {
+                dispatch(batches.remove(flags));
+                batch = null;
+            }
+
+            if (batch == null) {
+                batch = new Batch(flags, subscriber.Resubscribe, subscriber.RestartSubscriptionBasedAutoresponders);
+                batches.put(flags, batch);
+                schedule(batch);
+            }
+
+            batch.subscribers.add(subscriber);
+            batch.futures.put(email, future);
+            if (batch.subscribers.size() >= maxBatchSize) {
+                dispatch(batches.remove(flags));
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Sends every buffered subscriber without waiting for the delay to pass.
+     */
+    public synchronized void flush() {
+        for (Batch batch : batches.values()) {
+            dispatch(batch);
+        }
+        batches.clear();
+    }
+
+    /**
+     * Sends every buffered subscriber and stops accepting new ones. The scheduler is not shut down.
+     */
+    public synchronized void close() {
+        closed = true;
+        flush();
+    }
+
+    /**
+     * @return The number of subscribers waiting to be sent.
+     */
+    public synchronized int getPendingCount() {
+        int pending = 0;
+        for (Batch batch : batches.values()) {
+            pending += batch.subscribers.size();
+        }
+        return pending;
+    }
+
+    private void schedule(final Batch batch) {
+        try {
+            batch.timer = scheduler.schedule(new Runnable() {
+                public void run() {
+                    synchronized (SubscriberBatcher.this) {
+                        if (batches.get(batch.flags) != batch) {
+                            return;
+                        }
+                        batches.remove(batch.flags);
+                    }
+                    send(batch);
+                }
+            }, maxDelay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Sent by the next add or flush instead
+        }
+    }
+
+    private void dispatch(final Batch batch) {
+        if (batch.timer != null) {
+            batch.timer.cancel(false);
+        }
+
+        try {
+            scheduler.execute(new Runnable() {
+                public void run() {
+                    send(batch);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            batch.fail(e);
+        }
+    }
+
+    private void send(Batch batch) {
+        SubscribersToAdd request = new SubscribersToAdd();
+        request.Subscribers = batch.subscribers.toArray(new Subscriber[batch.subscribers.size()]);
+        request.Resubscribe = batch.resubscribe;
+        request.RestartSubscriptionBasedAutoresponders = batch.restart;
+
+        ImportResult result;
+        try {
+            result = subscribers.addMany(request);
+        } catch (BadRequestException e) {
+            result = Subscribers.getImportResult(e);
+            if (result == null) {
+                batch.fail(e);
+                return;
+            }
+        } catch (Throwable t) {
+            batch.fail(t);
+            return;
+        }
+
+        batch.complete(result);
+    }
+
+    private static String getKey(String email) {
+        return email == null ? "" : email.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Batch {
+        final Integer flags;
+        final boolean resubscribe;
+        final boolean restart;
+        final List<SubscriberToAdd> subscribers = new ArrayList<SubscriberToAdd>();
+        final Map<String, CompletableFuture<String>> futures = new HashMap<String, CompletableFuture<String>>();
+        ScheduledFuture<?> timer;
+
+        Batch(Integer flags, boolean resubscribe, boolean restart) {
+            this.flags = flags;
+            this.resubscribe = resubscribe;
+            this.restart = restart;
+        }
+
+        void fail(Throwable t) {
+            for (CompletableFuture<String> future : futures.values()) {
+                future.completeExceptionally(t);
+            }
+        }
+
+        void complete(ImportResult result) {
+            Map<String, FailedImportSubscriber> failures = new HashMap<String, FailedImportSubscriber>();
+            if (result.FailureDetails != null) {
+                for (FailedImportSubscriber failure : result.FailureDetails) {
+                    failures.put(getKey(failure.EmailAddress), failure);
+                }
+            }
+
+            for (SubscriberToAdd subscriber : subscribers) {
+                CompletableFuture<String> future = futures.get(getKey(subscriber.EmailAddress));
+                FailedImportSubscriber failure = failures.get(getKey(subscriber.EmailAddress));
+                if (failure != null) {
+                    future.completeExceptionally(new BadRequestException(failure.Code, failure.Message, null));
+                } else {
+                    future.complete(subscriber.EmailAddress);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,429 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import com.createsend.models.subscribers.FailedImportSubscriber;
+import com.createsend.models.subscribers.ImportResult;
+import com.createsend.models.subscribers.Subscriber;
+import com.createsend.models.subscribers.SubscribersToAdd;
+import com.createsend.util.exceptions.BadRequestException;
+import com.createsend.util.exceptions.CreateSendException;
+import com.createsend.util.jersey.JsonProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Imports any number of subscribers into a list using {@link Subscribers#addMany(SubscribersToAdd)}.
+ *
+ * Subscribers are read from the source in chunks of up to 1000, the most the API accepts in
+ * a single import, and up to <code>concurrency</code> chunks are imported at once. Reading
+ * from the source blocks while that many chunks are in flight. The results of every chunk
+ * are merged into a single {@link ImportResult}.
+ *
+ * If a checkpoint file is set, the number of subscribers imported so far and their merged
+ * totals are written to it each time the next chunk in order has been imported. The failures
+ * and duplicates reported for each chunk are appended to a file alongside it, named with the
+ * suffix <code>.failures</code>, so each write costs the same however many have been reported.
+ * A later import from the same source resumes after the last of those subscribers, so the
+ * source must produce subscribers in the same order each time. Both files are deleted once an
+ * import completes.
+ */
+public class SubscriberImporter {
+    private static final ObjectMapper mapper = JsonProvider.createObjectMapper();
+
+    private final Subscribers subscribers;
+    private final Executor executor;
+    private final int concurrency;
+    private int chunkSize = 1000;
+    private Path checkpointFile;
+    private boolean resubscribe;
+    private Boolean queueSubscriptionBasedAutoResponders;
+    private boolean restartSubscriptionBasedAutoresponders;
+
+    private final Object lock = new Object();
+    private Semaphore inFlight;
+    private Checkpoint acknowledged;
+    private List<FailedImportSubscriber> failureDetails;
+    private List<String> duplicateEmails;
+    private Map<Integer, Chunk> completed;
+    private int nextAcknowledged;
+    private Throwable failure;
+
+    /**
+     * @param subscribers The list to import subscribers into
+     * @param executor The executor to run imports on
+     * @param concurrency The most chunks to import at once
+     */
+    public SubscriberImporter(Subscribers subscribers, Executor executor, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Must allow at least one chunk at a time");
+        }
+
+        this.subscribers = subscribers;
+        this.executor = executor;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * @param chunkSize The number of subscribers to send in each import, at most 1000
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > 1000) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and 1000");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param checkpointFile The file to record progress in, or <code>null</code> to not record progress
+     */
+    public void setCheckpointFile(Path checkpointFile) {
+        this.checkpointFile = checkpointFile;
+    }
+
+    public void setResubscribe(boolean resubscribe) {
+        this.resubscribe = resubscribe;
+    }
+
+    public void setQueueSubscriptionBasedAutoResponders(Boolean queueSubscriptionBasedAutoResponders) {
+        this.queueSubscriptionBasedAutoResponders = queueSubscriptionBasedAutoResponders;
+    }
+
+    public void setRestartSubscriptionBasedAutoresponders(boolean restartSubscriptionBasedAutoresponders) {
+        this.restartSubscriptionBasedAutoresponders = restartSubscriptionBasedAutoresponders;
+    }
+
+    /**
+     * Imports every subscriber in the stream.
+     * @param source The subscribers to import
+     * @return The merged result of every chunk imported, including any imported before a restart
+     * @throws CreateSendException Thrown when an import fails for a reason other than some of its
+     * subscribers being invalid. Chunks already in flight are allowed to finish first.
+     */
+    public ImportResult importAll(Stream<? extends Subscriber> source) throws CreateSendException {
+        return importAll(source.iterator());
+    }
+
+    /**
+     * Imports every subscriber from the iterator.
+     * @param source The subscribers to import
+     * @return The merged result of every chunk imported, including any imported before a restart
+     * @throws CreateSendException Thrown when an import fails for a reason other than some of its
+     * subscribers being invalid. Chunks already in flight are allowed to finish first.
+     */
+    public synchronized ImportResult importAll(Iterator<? extends Subscriber> source) throws CreateSendException {
+        acknowledged = readCheckpoint();
+        readFailures();
+        completed = new HashMap<Integer, Chunk>();
+        nextAcknowledged = 0;
+        failure = null;
+        inFlight = new Semaphore(concurrency);
+
+        for (long skip = acknowledged.Records; skip > 0 && source.hasNext(); skip--) {
+            source.next();
+        }
+
+        try {
+            for (int index = 0; source.hasNext() && getFailure() == null; index++) {
+                List<Subscriber> batch = new ArrayList<Subscriber>(chunkSize);
+                while (batch.size() < chunkSize && source.hasNext()) {
+                    batch.add(source.next());
+                }
+
+                inFlight.acquire();
+                submit(new Chunk(index, batch));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(new CreateSendException("Interrupted while importing subscribers"));
+        } finally {
+            // Even if reading the source failed, so no chunk is still running, and writing
+            // the checkpoint, once this returns
+            inFlight.acquireUninterruptibly(concurrency);
+        }
+
+        Throwable failure = getFailure();
+        if (failure instanceof CreateSendException) {
+            throw (CreateSendException)failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException)failure;
+        } else if (failure instanceof Error) {
+            throw (Error)failure;
+        }
+
+        deleteCheckpoint();
+
+        ImportResult result = acknowledged.toImportResult();
+        result.FailureDetails = failureDetails.toArray(new FailedImportSubscriber[failureDetails.size()]);
+        result.DuplicateEmailsInSubmission = duplicateEmails.toArray(new String[duplicateEmails.size()]);
+        return result;
+    }
+
+    private void submit(final Chunk chunk) {
+        try {
+            executor.execute(new Runnable() {
+                public void run() {
+                    try {
+                        chunk.result = send(chunk.subscribers);
+                        acknowledge(chunk);
+                    } catch (Throwable t) {
+                        fail(t);
+                    } finally {
+                        inFlight.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            fail(e);
+        }
+    }
+
+    private ImportResult send(List<Subscriber> chunk) throws CreateSendException {
+        SubscribersToAdd request = new SubscribersToAdd();
+        request.Subscribers = chunk.toArray(new Subscriber[chunk.size()]);
+        request.Resubscribe = resubscribe;
+        request.QueueSubscriptionBasedAutoResponders = queueSubscriptionBasedAutoResponders;
+        request.RestartSubscriptionBasedAutoresponders = restartSubscriptionBasedAutoresponders;
+
+        try {
+            return subscribers.addMany(request);
+        } catch (BadRequestException e) {
+            ImportResult result = Subscribers.getImportResult(e);
+            if (result == null) {
+                throw e;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Merges chunks into the acknowledged result in order, so that the checkpoint only
+     * ever covers a contiguous run of subscribers from the start of the source.
+     */
+    private void acknowledge(Chunk chunk) throws IOException {
+        synchronized (lock) {
+            completed.put(chunk.index, chunk);
+            Chunk next;
+            boolean advanced = false;
+            while ((next = completed.remove(nextAcknowledged)) != null) {
+                acknowledged.add(next.subscribers.size(), next.result);
+                addFailures(acknowledged.Records, next.result);
+                nextAcknowledged++;
+                advanced = true;
+            }
+
+            // Failures first, so the checkpoint never covers a chunk whose failures are lost
+            if (advanced) {
+                writeCheckpoint();
+            }
+        }
+    }
+
+    private void fail(Throwable t) {
+        synchronized (lock) {
+            if (failure == null) {
+                failure = t;
+            }
+        }
+    }
+
+    private Throwable getFailure() {
+        synchronized (lock) {
+            return failure;
+        }
+    }
+
+    /**
+     * Appends a chunk's failures and duplicates, if it has any, to the failures file.
+     * @param records The number of subscribers acknowledged up to and including the chunk
+     */
+    private void addFailures(long records, ImportResult result) throws IOException {
+        boolean hasFailures = result.FailureDetails != null && result.FailureDetails.length > 0;
+        boolean hasDuplicates = result.DuplicateEmailsInSubmission != null && result.DuplicateEmailsInSubmission.length > 0;
+        if (!hasFailures && !hasDuplicates) {
+            return;
+        }
+
+        ChunkFailures failures = new ChunkFailures();
+        failures.Records = records;
+        if (hasFailures) {
+            failures.FailureDetails = result.FailureDetails;
+            failureDetails.addAll(Arrays.asList(result.FailureDetails));
+        }
+        if (hasDuplicates) {
+            failures.DuplicateEmailsInSubmission = result.DuplicateEmailsInSubmission;
+            duplicateEmails.addAll(Arrays.asList(result.DuplicateEmailsInSubmission));
+        }
+
+        if (checkpointFile != null) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            mapper.writeValue(line, failures);
+            line.write('\n');
+            Files.write(getFailuresFile(), line.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    /**
+     * Reads the failures of the chunks covered by the checkpoint. Lines for chunks imported
+     * after the checkpoint was last written, or partly written when the process stopped, are
+     * dropped from the file, as those chunks are imported again.
+     */
+    private void readFailures() throws CreateSendException {
+        failureDetails = new ArrayList<FailedImportSubscriber>();
+        duplicateEmails = new ArrayList<String>();
+        if (checkpointFile == null || !Files.exists(getFailuresFile())) {
+            return;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(getFailuresFile(), StandardCharsets.UTF_8);
+            List<String> covered = new ArrayList<String>(lines.size());
+            for (String line : lines) {
+                ChunkFailures failures;
+                try {
+                    failures = mapper.readValue(line, ChunkFailures.class);
+                } catch (JsonProcessingException e) {
+                    continue;
+                }
+
+                if (failures.Records <= acknowledged.Records) {
+                    covered.add(line);
+                    if (failures.FailureDetails != null) {
+                        failureDetails.addAll(Arrays.asList(failures.FailureDetails));
+                    }
+                    if (failures.DuplicateEmailsInSubmission != null) {
+                        duplicateEmails.addAll(Arrays.asList(failures.DuplicateEmailsInSubmission));
+                    }
+                }
+            }
+
+            if (covered.size() < lines.size()) {
+                Files.write(getFailuresFile(), covered, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new CreateSendException("Could not read import failures " + getFailuresFile() + ": " + e.getMessage());
+        }
+    }
+
+    private Path getFailuresFile() {
+        return checkpointFile.resolveSibling(checkpointFile.getFileName() + ".failures");
+    }
+
+    private Checkpoint readCheckpoint() throws CreateSendException {
+        if (checkpointFile == null || !Files.exists(checkpointFile)) {
+            return new Checkpoint();
+        }
+
+        try {
+            return mapper.readValue(checkpointFile.toFile(), Checkpoint.class);
+        } catch (IOException e) {
+            throw new CreateSendException("Could not read import checkpoint " + checkpointFile + ": " + e.getMessage());
+        }
+    }
+
+    private void writeCheckpoint() throws IOException {
+        if (checkpointFile == null) {
+            return;
+        }
+
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        mapper.writeValue(temp.toFile(), acknowledged);
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteCheckpoint() throws CreateSendException {
+        if (checkpointFile == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(checkpointFile);
+            Files.deleteIfExists(getFailuresFile());
+        } catch (IOException e) {
+            throw new CreateSendException("Could not delete import checkpoint " + checkpointFile + ": " + e.getMessage());
+        }
+    }
+
+    private static class Chunk {
+        final int index;
+        final List<Subscriber> subscribers;
+        ImportResult result;
+
+        Chunk(int index, List<Subscriber> subscribers) {
+            this.index = index;
+            this.subscribers = subscribers;
+        }
+    }
+
+    /**
+     * The progress of an import, as written to the checkpoint file.
+     */
+    static class Checkpoint {
+        public long Records;
+        public int TotalUniqueEmailsSubmitted;
+        public int TotalExistingSubscribers;
+        public int TotalNewSubscribers;
+
+        void add(int records, ImportResult result) {
+            Records += records;
+            TotalUniqueEmailsSubmitted += result.TotalUniqueEmailsSubmitted;
+            TotalExistingSubscribers += result.TotalExistingSubscribers;
+            TotalNewSubscribers += result.TotalNewSubscribers;
+        }
+
+        ImportResult toImportResult() {
+            ImportResult result = new ImportResult();
+            result.TotalUniqueEmailsSubmitted = TotalUniqueEmailsSubmitted;
+            result.TotalExistingSubscribers = TotalExistingSubscribers;
+            result.TotalNewSubscribers = TotalNewSubscribers;
+            return result;
+        }
+    }
+
+    /**
+     * The failures and duplicates reported for a chunk, as appended to the failures file.
+     */
+    static class ChunkFailures {
+        public long Records;
+        public FailedImportSubscriber[] FailureDetails;
+        public String[] DuplicateEmailsInSubmission;
+    }
+}
@@ -24,12 +24,14 @@ package com.createsend;
 import com.createsend.models.subscribers.EmailToUnsubscribe;
 import com.createsend.models.subscribers.HistoryItem;
 import com.createsend.models.subscribers.ImportResult;
+import com.createsend.models.subscribers.StreamingSubscribersToAdd;
 import com.createsend.models.subscribers.SubscriberToAdd;
 import com.createsend.models.subscribers.SubscriberWithJoinedDate;
 import com.createsend.models.subscribers.SubscribersToAdd;
 import com.createsend.util.AuthenticationDetails;
 import com.createsend.util.ErrorDeserialiser;
 import com.createsend.util.JerseyClientImpl;
+import com.createsend.util.exceptions.BadRequestException;
 import com.createsend.util.exceptions.CreateSendException;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
@@ -94,7 +96,34 @@ public class Subscribers extends CreateSendBase {
      */
     public ImportResult addMany(SubscribersToAdd subscribers) throws CreateSendException {
         return jerseyClient.post(ImportResult.class, subscribers, 
-            new ErrorDeserialiser<ImportResult>(), "subscribers", listID, "import.json");
+            new ErrorDeserialiser<ImportResult>() {}, "subscribers", listID, "import.json");
+    }
+
+    /**
+     * Import many subscribers into the specified list, writing each subscriber to the
+     * request as it is read from the iterator rather than building the whole request first.
+     * @param subscribers The subscribers to add to the list. At most 1000 subscribers
+     * may be imported at once.
+     * @return The results of the import.
+     * This will detail how many of the subscribers were new, already subscribed to the list
+     * or duplicated in the submission
+     * @throws CreateSendException Thrown when the API responds with HTTP Status >= 400
+     * @see <a href="https://www.campaignmonitor.com/api/subscribers/#importing-many-subscribers" target="_blank">
+     * Importing subscribers</a>
+     */
+    public ImportResult addMany(StreamingSubscribersToAdd subscribers) throws CreateSendException {
+        return jerseyClient.post(ImportResult.class, subscribers,
+            new ErrorDeserialiser<ImportResult>() {}, "subscribers", listID, "import.json");
+    }
+
+    /**
+     * Imports in which some subscribers failed are reported as a bad request, with the
+     * import result in the result data.
+     * @param e The exception thrown by {@link #addMany(SubscribersToAdd)}
+     * @return The result of the import, or <code>null</code> if the exception does not carry one.
+     */
+    static ImportResult getImportResult(BadRequestException e) {
+        return e.getResultData() instanceof ImportResult ? (ImportResult)e.getResultData() : null;
     }
     
     /**
@@ -0,0 +1,664 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.createsend.models.transactional.request.ClassicEmailRequest;
+import com.createsend.models.transactional.request.SmartEmailRequest;
+import com.createsend.models.transactional.response.MessageSent;
+import com.createsend.util.exceptions.CreateSendException;
+import com.createsend.util.exceptions.CreateSendHttpException;
+import com.createsend.util.jersey.JsonProvider;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.jersey.api.client.ClientHandlerException;
+
+/**
+ * A durable outbox for transactional email, so callers are not held up when the API is
+ * slow or unavailable.
+ *
+ * Submitting an email writes its request to an append-only segment file in the outbox
+ * directory and returns as soon as the write has been synced to disk. A pool of dispatcher
+ * threads takes queued emails in the order they were submitted. Emails failing with a 5xx or
+ * 429 response, or an I/O error on the connection, are put back in the queue to be retried.
+ * Every dispatcher then pauses for a backoff shared between them, which doubles with each
+ * failure up to a minute and halves with each success, so the outbox drains as fast as the
+ * API and any rate or concurrency limits set on the clients allow without hammering an API
+ * which is failing. The email retried goes behind those queued before its retry is due, so
+ * one failing email does not hold up the rest. Emails failing for any other reason, such as
+ * a 4xx response or a response which could not be read, are not retried.
+ *
+ * The outcome of each email, either the IDs of the messages sent or the error it failed
+ * with, is appended to an acknowledgement file alongside its segment. Segments are rolled
+ * once they grow past the segment size, and deleted with their acknowledgements once every
+ * email in them has been acknowledged. When an outbox is opened on a directory left by an
+ * earlier one, every email not yet acknowledged is queued to be sent again. Only the position
+ * of a queued email in its segment is held in memory, and its body read back when it is sent,
+ * so a long outage grows the outbox directory rather than the heap.
+ *
+ * Emails are sent at least once. One sent just before a crash may be sent again if its
+ * acknowledgement was not written.
+ */
+public class TransactionalOutbox implements Closeable {
+    private static final ObjectMapper mapper = JsonProvider.createObjectMapper();
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String LOG_SUFFIX = ".log";
+    private static final String ACK_SUFFIX = ".ack";
+    private static final long MIN_BACKOFF = 1000;
+    private static final long MAX_BACKOFF = 60000;
+
+    private final SmartEmail smartEmail;
+    private final ClassicEmail classicEmail;
+    private final Path directory;
+    private final ExecutorService dispatchers;
+    private final BlockingQueue<Message> queue = new DelayQueue<Message>();
+
+    private final Object backoffLock = new Object();
+    private long backoff;
+    private long resumeAt = System.nanoTime();
+
+    private final Object lock = new Object();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<Integer, Segment>();
+    private long segmentSize = 16 * 1024 * 1024;
+    private Segment active;
+    private long nextId = 1;
+    private volatile boolean closed;
+
+    /**
+     * Opens the outbox in the given directory, queueing any emails left unsent by an
+     * earlier outbox, and starts dispatching.
+     * @param smartEmail The client to send Smart Emails with, or <code>null</code> if none will be submitted
+     * @param classicEmail The client to send Classic Emails with, or <code>null</code> if none will be submitted
+     * @param directory The directory to keep segment files in
+     * @param dispatcherCount The number of threads sending emails
+     * @throws IOException If the directory or its segment files could not be read
+     */
+    public TransactionalOutbox(SmartEmail smartEmail, ClassicEmail classicEmail, Path directory,
+        int dispatcherCount) throws IOException {
+        if (dispatcherCount < 1) {
+            throw new IllegalArgumentException("Must have at least one dispatcher");
+        }
+
+        this.smartEmail = smartEmail;
+        this.classicEmail = classicEmail;
+        this.directory = directory;
+
+        Files.createDirectories(directory);
+        synchronized (lock) {
+            replay();
+            active = openSegment(segments.isEmpty() ? 1 : segments.lastKey() + 1);
+        }
+
+        dispatchers = Executors.newFixedThreadPool(dispatcherCount, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "createsend-outbox-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        for (int i = 0; i < dispatcherCount; i++) {
+            dispatchers.execute(new Runnable() {
+                public void run() {
+                    dispatch();
+                }
+            });
+        }
+    }
+
+    /**
+     * @param segmentSize The size in bytes after which a new segment file is started
+     */
+    public void setSegmentSize(long segmentSize) {
+        synchronized (lock) {
+            this.segmentSize = segmentSize;
+        }
+    }
+
+    /**
+     * Queues a Smart Email to be sent.
+     * @param smartEmailRequest The SmartEmailRequest to send.
+     * @return A future completing with the message sent acknowledgement once the email has
+     * been sent, or exceptionally with the {@link CreateSendException}, or other exception,
+     * it failed with.
+     * @throws IOException If the email could not be written to the outbox
+     */
+    public CompletableFuture<MessageSent[]> submit(SmartEmailRequest smartEmailRequest) throws IOException {
+        if (smartEmail == null) {
+            throw new IllegalStateException("The outbox has no SmartEmail client");
+        }
+        return submit(smartEmailRequest.getSmartEmailId().toString(), null, smartEmailRequest);
+    }
+
+    /**
+     * Queues a Classic Email to be sent.
+     * @param classicEmailRequest The ClassicEmailRequest to send.
+     * @param clientID The Client to send the email on behalf of, or <code>null</code>
+     * @return A future completing with the message sent acknowledgement once the email has
+     * been sent, or exceptionally with the {@link CreateSendException}, or other exception,
+     * it failed with.
+     * @throws IOException If the email could not be written to the outbox
+     */
+    public CompletableFuture<MessageSent[]> submit(ClassicEmailRequest classicEmailRequest, String clientID) throws IOException {
+        if (classicEmail == null) {
+            throw new IllegalStateException("The outbox has no ClassicEmail client");
+        }
+        return submit(null, clientID, classicEmailRequest);
+    }
+
+    private CompletableFuture<MessageSent[]> submit(String smartEmailID, String clientID, Object request) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(request);
+        Message message;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("The outbox is closed");
+            }
+
+            if (active.size >= segmentSize) {
+                roll();
+            }
+
+            long id = nextId++;
+            byte[] record = toRecord(id, smartEmailID, clientID, body);
+            message = new Message(id, active, smartEmailID, clientID, active.size, record.length);
+            active.append(record);
+            active.records++;
+        }
+
+        queue.add(message);
+        return message.future;
+    }
+
+    /**
+     * @return The number of emails waiting to be sent, not including those being sent.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Stops dispatching, waiting for emails already being sent to finish. Emails still
+     * queued are left in the outbox to be sent when it is next opened.
+     */
+    public void close() throws IOException {
+        closed = true;
+        dispatchers.shutdownNow();
+        try {
+            while (!dispatchers.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Wait for sends in progress
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (lock) {
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+        }
+    }
+
+    private void dispatch() {
+        try {
+            while (!closed) {
+                Message message = queue.take();
+                awaitResume();
+
+                byte[] body;
+                try {
+                    body = readBody(message);
+                } catch (IOException e) {
+                    // Left unacknowledged, so sent when the outbox is next opened
+                    message.future.completeExceptionally(e);
+                    continue;
+                }
+
+                MessageSent[] sent;
+                try {
+                    sent = send(message, body);
+                } catch (CreateSendException | RuntimeException e) {
+                    if (!isTransient(e)) {
+                        acknowledge(message, null, e.getMessage());
+                        message.future.completeExceptionally(e);
+                        continue;
+                    }
+
+                    // If closing, left unacknowledged, so sent when the outbox is next opened
+                    message.notBefore = backOff();
+                    queue.add(message);
+                    continue;
+                }
+
+                recovered();
+                acknowledge(message, sent, null);
+                message.future.complete(sent);
+            }
+        } catch (InterruptedException e) {
+            // Closing
+        }
+    }
+
+    /**
+     * Waits until any pause after a failed send has passed.
+     */
+    private void awaitResume() throws InterruptedException {
+        while (true) {
+            long wait;
+            synchronized (backoffLock) {
+                wait = resumeAt - System.nanoTime();
+            }
+
+            if (wait <= 0) {
+                return;
+            }
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Pauses every dispatcher after a failed send, doubling the backoff. Failures of sends
+     * which were already in flight when the pause began do not double it again.
+     * @return The time, as a {@link System#nanoTime()}, at which sending resumes.
+     */
+    private long backOff() {
+        synchronized (backoffLock) {
+            long now = System.nanoTime();
+            if (now - resumeAt >= 0) {
+                backoff = backoff == 0 ? MIN_BACKOFF : Math.min(MAX_BACKOFF, backoff * 2);
+                resumeAt = now + TimeUnit.MILLISECONDS.toNanos(backoff);
+            }
+            return resumeAt;
+        }
+    }
+
+    /**
+     * Halves the backoff after a successful send, so a single success while the API is
+     * still failing does not return the dispatchers to full speed.
+     */
+    private void recovered() {
+        synchronized (backoffLock) {
+            backoff = backoff / 2 < MIN_BACKOFF ? 0 : backoff / 2;
+        }
+    }
+
+    /**
+     * @return Whether a send may succeed if made again: the API responded with a server error
+     * or 429 Too Many Requests, whether or not it sent an error body we could read, or the
+     * request failed on the connection. A failure reading a response the API sent is not
+     * transient, as the API may have accepted the send. Jackson's parsing exceptions are
+     * IOExceptions too, so are excluded.
+     */
+    private static boolean isTransient(Exception e) {
+        if (e instanceof CreateSendHttpException) {
+            int statusCode = ((CreateSendHttpException)e).getStatusCode();
+            return statusCode == 429 || statusCode >= 500;
+        }
+
+        if (e instanceof ClientHandlerException) {
+            Throwable cause = e.getCause();
+            return cause instanceof IOException && !(cause instanceof JsonProcessingException);
+        }
+        return false;
+    }
+
+    private MessageSent[] send(Message message, byte[] body) throws CreateSendException {
+        if (message.smartEmailID != null) {
+            if (smartEmail == null) {
+                throw new CreateSendException("The outbox has no SmartEmail client");
+            }
+            return smartEmail.send(UUID.fromString(message.smartEmailID), body);
+        }
+
+        if (classicEmail == null) {
+            throw new CreateSendException("The outbox has no ClassicEmail client");
+        }
+        return classicEmail.send(message.clientID, body);
+    }
+
+    /**
+     * Reads the body of a queued email back from its segment, so queued emails take no more
+     * memory than their position in the outbox however large their attachments.
+     */
+    private static byte[] readBody(Message message) throws IOException {
+        JsonNode record = mapper.readTree(message.segment.read(message.offset, message.length));
+        return mapper.writeValueAsBytes(record.path("Body"));
+    }
+
+    private void acknowledge(Message message, MessageSent[] sent, String error) {
+        Ack ack = new Ack();
+        ack.Id = message.id;
+        ack.Error = error;
+        if (sent != null) {
+            ack.MessageIDs = new ArrayList<UUID>(sent.length);
+            for (MessageSent messageSent : sent) {
+                ack.MessageIDs.add(messageSent.getMessageID());
+            }
+        }
+
+        synchronized (lock) {
+            Segment segment = message.segment;
+            try {
+                segment.acknowledge(mapper.writeValueAsBytes(ack));
+            } catch (IOException e) {
+                // The email is sent again when the outbox is next opened
+            }
+
+            segment.acknowledged++;
+            if (segment != active && segment.acknowledged == segment.records) {
+                delete(segment);
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        Segment previous = active;
+        active = openSegment(previous.number + 1);
+        previous.closeLog();
+        if (previous.acknowledged == previous.records) {
+            delete(previous);
+        }
+    }
+
+    private Segment openSegment(int number) throws IOException {
+        Segment segment = new Segment(number);
+        segment.log = FileChannel.open(segment.logPath, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segment.size = segment.log.size();
+        segments.put(number, segment);
+        return segment;
+    }
+
+    private void delete(Segment segment) {
+        segments.remove(segment.number);
+        segment.close();
+        try {
+            Files.deleteIfExists(segment.logPath);
+            Files.deleteIfExists(segment.ackPath);
+        } catch (IOException e) {
+            // Replaying a fully acknowledged segment sends nothing, so it is deleted next time
+        }
+    }
+
+    /**
+     * Reads the segments left by an earlier outbox, queueing every email without an
+     * acknowledgement. A partly written record at the end of a segment is ignored.
+     */
+    private void replay() throws IOException {
+        TreeMap<Integer, Path> logs = new TreeMap<Integer, Path>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + LOG_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    logs.put(Integer.parseInt(name.substring(SEGMENT_PREFIX.length(),
+                        name.length() - LOG_SUFFIX.length())), file);
+                } catch (NumberFormatException e) {
+                    // Not a segment
+                }
+            }
+        }
+
+        for (int number : logs.keySet()) {
+            final Segment segment = new Segment(number);
+            final Set<Long> acknowledged = new HashSet<Long>();
+            readRecords(segment.ackPath, new RecordHandler() {
+                public void handle(JsonNode ack, long offset, int length) {
+                    acknowledged.add(ack.path("Id").asLong());
+                }
+            });
+
+            readRecords(segment.logPath, new RecordHandler() {
+                public void handle(JsonNode record, long offset, int length) {
+                    Message message = new Message(record.path("Id").asLong(), segment,
+                        record.path("SmartEmailID").textValue(), record.path("ClientID").textValue(),
+                        offset, length);
+                    nextId = Math.max(nextId, message.id + 1);
+                    segment.records++;
+                    if (acknowledged.contains(message.id)) {
+                        segment.acknowledged++;
+                    } else {
+                        queue.add(message);
+                    }
+                }
+            });
+
+            segments.put(number, segment);
+            if (segment.acknowledged == segment.records) {
+                delete(segment);
+            }
+        }
+    }
+
+    /**
+     * Receives each record read from a segment or acknowledgement file.
+     */
+    private interface RecordHandler {
+        void handle(JsonNode record, long offset, int length);
+    }
+
+    /**
+     * Reads a file of records a line at a time, so replaying a large outbox does not hold
+     * every record in memory at once.
+     */
+    private static void readRecords(Path file, RecordHandler handler) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            long offset = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+
+                int length = line.size();
+                try {
+                    JsonNode record = mapper.readTree(line.toByteArray());
+                    if (record != null && record.has("Id")) {
+                        handler.handle(record, offset, length);
+                    }
+                } catch (JsonProcessingException e) {
+                    // Not a record
+                }
+                offset += length + 1;
+                line.reset();
+            }
+            // Anything after the last newline was partly written when the process stopped
+        }
+    }
+
+    private static void write(FileChannel channel, byte[] line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(line.length + 1);
+        buffer.put(line).put((byte)'\n').flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    private class Segment {
+        final int number;
+        final Path logPath;
+        final Path ackPath;
+        FileChannel log;
+        FileChannel acks;
+        FileChannel reader;
+        long size;
+        int records;
+        int acknowledged;
+
+        Segment(int number) {
+            this.number = number;
+            String name = SEGMENT_PREFIX + String.format("%06d", number);
+            this.logPath = directory.resolve(name + LOG_SUFFIX);
+            this.ackPath = directory.resolve(name + ACK_SUFFIX);
+        }
+
+        void append(byte[] record) throws IOException {
+            write(log, record);
+            size += record.length + 1;
+        }
+
+        void acknowledge(byte[] ack) throws IOException {
+            if (acks == null) {
+                acks = FileChannel.open(ackPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            write(acks, ack);
+        }
+
+        synchronized byte[] read(long offset, int length) throws IOException {
+            if (reader == null) {
+                reader = FileChannel.open(logPath, StandardOpenOption.READ);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (reader.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException("The segment " + logPath + " ends before the record at " + offset);
+                }
+            }
+            return buffer.array();
+        }
+
+        void closeLog() {
+            closeQuietly(log);
+            log = null;
+        }
+
+        synchronized void close() {
+            closeLog();
+            closeQuietly(acks);
+            acks = null;
+            closeQuietly(reader);
+            reader = null;
+        }
+
+        private void closeQuietly(FileChannel channel) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // Nothing more to write
+                }
+            }
+        }
+    }
+
+    private static byte[] toRecord(long id, String smartEmailID, String clientID, byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 100);
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeNumberField("Id", id);
+            if (smartEmailID != null) {
+                gen.writeStringField("SmartEmailID", smartEmailID);
+            }
+            if (clientID != null) {
+                gen.writeStringField("ClientID", clientID);
+            }
+            gen.writeFieldName("Body");
+            gen.writeRawValue(new String(body, StandardCharsets.UTF_8));
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * A queued email. Its body stays in its segment, at the given offset. Emails are taken
+     * from the queue once they are due, in the order they fell due and then the order they
+     * were submitted.
+     */
+    private static class Message implements Delayed {
+        final long id;
+        final Segment segment;
+        final String smartEmailID;
+        final String clientID;
+        final long offset;
+        final int length;
+        final CompletableFuture<MessageSent[]> future = new CompletableFuture<MessageSent[]>();
+        long notBefore = System.nanoTime();
+
+        Message(long id, Segment segment, String smartEmailID, String clientID, long offset, int length) {
+            this.id = id;
+            this.segment = segment;
+            this.smartEmailID = smartEmailID;
+            this.clientID = clientID;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(notBefore - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            Message other = (Message)o;
+            long due = notBefore - other.notBefore;
+            return due != 0 ? (due < 0 ? -1 : 1) : Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * The outcome of sending an email, as written to the acknowledgement file.
+     */
+    static class Ack {
+        public long Id;
+        public List<UUID> MessageIDs;
+        public String Error;
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.createsend.models.transactional.response.TransactionalStatistics;
+import com.createsend.util.exceptions.CreateSendException;
+
+/**
+ * Caches transactional statistics by day, so statistics for a date range only query the
+ * API for days which have not been seen recently.
+ *
+ * Statistics for a range are built from one bucket per day, each fetched with
+ * {@link Messages#statistics(String, UUID, String, Date, Date, String)} and keyed by the
+ * client, Smart Email, group, timezone and day they were fetched for. Yesterday and today may
+ * still change, so they are always fetched in a single query and never cached. Earlier days
+ * are served from the cache until their bucket is older than the maximum age, which bounds
+ * how long late opens and clicks take to show up. The least recently used buckets are evicted
+ * once the maximum number are cached.
+ *
+ * Days are taken in the JVM's default timezone, as for the dates passed to
+ * {@link Messages#statistics(String, UUID, String, Date, Date, String)}.
+ */
+public class TransactionalStatisticsCache {
+    private final Messages messages;
+    private final long maxAge;
+    private final int maxEntries;
+    private final Map<String, Bucket> buckets;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param messages The client to fetch statistics with
+     * @param maxAge How long in milliseconds to serve a day's statistics from the cache
+     * @param maxEntries The most days of statistics to cache
+     */
+    public TransactionalStatisticsCache(Messages messages, long maxAge, final int maxEntries) {
+        this.messages = messages;
+        this.maxAge = TimeUnit.MILLISECONDS.toNanos(maxAge);
+        this.maxEntries = maxEntries;
+        this.buckets = new LinkedHashMap<String, Bucket>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets statistics for a range of messages, as
+     * {@link Messages#statistics(String, UUID, String, Date, Date, String)} does.
+     * Ranges without both a from and to date are not cached.
+     * @param clientID optional Client ID to filter.
+     * @param smartEmailID optional Smart Email ID.
+     * @param group optional Group.
+     * @param from optional From date.
+     * @param to optional To date.
+     * @param timezone optional timezone.
+     * @return the message activity statistics, summed from each day in the range.
+     * @throws CreateSendException
+     */
+    public TransactionalStatistics statistics(String clientID, UUID smartEmailID, String group,
+        Date from, Date to, String timezone) throws CreateSendException {
+        if (from == null || to == null || maxEntries == 0) {
+            return messages.statistics(clientID, smartEmailID, group, from, to, timezone);
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate first = from.toInstant().atZone(zone).toLocalDate();
+        LocalDate last = to.toInstant().atZone(zone).toLocalDate();
+        LocalDate open = LocalDate.now(zone).minusDays(1);
+
+        List<TransactionalStatistics> days = new ArrayList<TransactionalStatistics>();
+        String prefix = clientID + "|" + smartEmailID + "|" + group + "|" + timezone + "|";
+        for (LocalDate day = first; !day.isAfter(last) && day.isBefore(open); day = day.plusDays(1)) {
+            String key = prefix + day;
+            TransactionalStatistics statistics = get(key);
+            if (statistics == null) {
+                Date date = toDate(day, zone);
+                statistics = messages.statistics(clientID, smartEmailID, group, date, date, timezone);
+                put(key, statistics);
+            }
+            days.add(statistics);
+        }
+
+        if (!last.isBefore(open)) {
+            Date start = toDate(first.isBefore(open) ? open : first, zone);
+            days.add(messages.statistics(clientID, smartEmailID, group, start, to, timezone));
+        }
+        return TransactionalStatistics.sum(days);
+    }
+
+    /**
+     * Removes every cached day.
+     */
+    public synchronized void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * @return The number of days served from the cache.
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * @return The number of days fetched because they were not cached or had expired.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    private synchronized TransactionalStatistics get(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null || System.nanoTime() - bucket.fetched > maxAge) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return bucket.statistics;
+    }
+
+    private synchronized void put(String key, TransactionalStatistics statistics) {
+        buckets.put(key, new Bucket(statistics));
+    }
+
+    private static Date toDate(LocalDate day, ZoneId zone) {
+        return Date.from(day.atStartOfDay(zone).toInstant());
+    }
+
+    private static class Bucket {
+        final TransactionalStatistics statistics;
+        final long fetched = System.nanoTime();
+
+        Bucket(TransactionalStatistics statistics) {
+            this.statistics = statistics;
+        }
+    }
+}
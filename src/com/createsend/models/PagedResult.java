@@ -24,6 +24,10 @@ package com.createsend.models;
 import java.util.Arrays;
 
 public class PagedResult<T> {
+    /**
+     * The results on this page, or <code>null</code> if the results were streamed to a
+     * {@link com.createsend.util.ResultHandler} instead.
+     */
     public T[] Results;
     public String ResultsOrderedBy;
     public String OrderDirection;
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.models.subscribers;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import com.createsend.util.StreamingEntity;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * The subscribers to import, read lazily from an iterator as the request is written.
+ *
+ * Each subscriber is serialised straight to the connection as it is read, so only one
+ * subscriber is held in memory by the request regardless of how many are imported.
+ * The iterator is consumed by the request, so an instance can only be sent once and the
+ * request is never retried.
+ */
+@JsonSerialize(using = StreamingSubscribersToAdd.Serializer.class)
+public class StreamingSubscribersToAdd implements StreamingEntity {
+    public Iterator<? extends Subscriber> Subscribers;
+    public Boolean Resubscribe;
+    public Boolean QueueSubscriptionBasedAutoResponders;
+    public boolean RestartSubscriptionBasedAutoresponders;
+
+    public StreamingSubscribersToAdd(Iterator<? extends Subscriber> subscribers) {
+        this.Subscribers = subscribers;
+    }
+
+    static class Serializer extends JsonSerializer<StreamingSubscribersToAdd> {
+        @Override
+        public void serialize(StreamingSubscribersToAdd value, JsonGenerator gen,
+                SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("Subscribers");
+            while (value.Subscribers.hasNext()) {
+                serializers.defaultSerializeValue(value.Subscribers.next(), gen);
+            }
+            gen.writeEndArray();
+
+            if (value.Resubscribe != null) {
+                gen.writeBooleanField("Resubscribe", value.Resubscribe);
+            }
+            if (value.QueueSubscriptionBasedAutoResponders != null) {
+                gen.writeBooleanField("QueueSubscriptionBasedAutoResponders", value.QueueSubscriptionBasedAutoResponders);
+            }
+            gen.writeBooleanField("RestartSubscriptionBasedAutoresponders", value.RestartSubscriptionBasedAutoresponders);
+            gen.writeEndObject();
+        }
+    }
+}
@@ -21,12 +21,21 @@
  */
 package com.createsend.models.transactional.request;
 
+import com.createsend.util.AttachmentCache;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.io.IOUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+@JsonSerialize(using = Attachment.Serializer.class)
 public class Attachment {
 
     /**
@@ -40,10 +49,16 @@ public class Attachment {
     public String Type;
 
     /**
-     * Must be base64 encoded.
+     * Must be base64 encoded. Setting a content file, stream or encoded content replaces
+     * any Content already set, and setting Content has no effect while one of them is set.
      */
     public String Content;
 
+    private AttachmentCache.Entry encodedContent;
+    private Path contentFile;
+    private InputStream contentStream;
+    private boolean contentStreamRead;
+
     /**
      * Base64 encodes the input stream and stores the result as the Content.
      * @param inputStream
@@ -53,5 +68,98 @@ public class Attachment {
         byte[] bytes = IOUtils.toByteArray(inputStream);
         byte[] bytesBase64 = Base64.encodeBase64(bytes);
         Content = new String(bytesBase64);
+        this.contentFile = null;
+        this.contentStream = null;
+        this.encodedContent = null;
+    }
+
+    /**
+     * Uses the file as the Content. The file is read and base64 encoded straight into
+     * the request as it is written, so the encoded content is never held in memory.
+     * Replaces any Content already set.
+     * @param file The file to attach
+     */
+    @JsonIgnore
+    public void setContentFile(Path file) {
+        this.contentFile = file;
+        this.Content = null;
+        this.contentStream = null;
+        this.encodedContent = null;
+    }
+
+    /**
+     * Uses the stream as the Content. The stream is read and base64 encoded straight into
+     * the request as it is written, then closed. As the stream can only be read once, the
+     * request can only be sent once and is never retried. Replaces any Content already set.
+     * @param inputStream The content to attach
+     */
+    @JsonIgnore
+    public void setContentStream(InputStream inputStream) {
+        this.contentStream = inputStream;
+        this.contentStreamRead = false;
+        this.Content = null;
+        this.contentFile = null;
+        this.encodedContent = null;
+    }
+
+    /**
+     * Uses already encoded content from an {@link AttachmentCache} as the Content. The encoded
+     * bytes are copied straight into the request, so content shared by many attachments is
+     * only encoded once. Replaces any Content already set.
+     * @param encodedContent The encoded content to attach
+     */
+    @JsonIgnore
+    public void setEncodedContent(AttachmentCache.Entry encodedContent) {
+        this.encodedContent = encodedContent;
+        this.Content = null;
+        this.contentFile = null;
+        this.contentStream = null;
+    }
+
+    /**
+     * @return Whether the content is read from a stream, so the attachment can only be sent once.
+     */
+    boolean hasContentStream() {
+        return contentStream != null;
+    }
+
+    static class Serializer extends JsonSerializer<Attachment> {
+        @Override
+        public void serialize(Attachment value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject();
+            if (value.Name != null) {
+                gen.writeStringField("Name", value.Name);
+            }
+            if (value.Type != null) {
+                gen.writeStringField("Type", value.Type);
+            }
+
+            if (value.encodedContent != null) {
+                gen.writeFieldName("Content");
+                value.encodedContent.writeTo(gen);
+            } else if (value.contentFile != null) {
+                gen.writeFieldName("Content");
+                try (InputStream in = Files.newInputStream(value.contentFile)) {
+                    gen.writeBinary(in, -1);
+                }
+            } else if (value.contentStream != null) {
+                if (value.contentStreamRead) {
+                    throw new IOException("The content stream of attachment " + value.Name + " has already been sent");
+                }
+
+                InputStream in = value.contentStream;
+                value.contentStreamRead = true;
+                gen.writeFieldName("Content");
+                try {
+                    gen.writeBinary(in, -1);
+                } finally {
+                    in.close();
+                }
+            } else if (value.Content != null) {
+                gen.writeStringField("Content", value.Content);
+            }
+            gen.writeEndObject();
+        }
     }
 }
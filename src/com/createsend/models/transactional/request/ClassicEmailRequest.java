@@ -23,6 +23,8 @@ package com.createsend.models.transactional.request;
 
 import com.createsend.models.subscribers.ConsentToTrack;
 import com.createsend.models.transactional.EmailContent;
+import com.createsend.util.StreamingEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -31,7 +33,7 @@ import java.util.List;
 /**
  * Contains the request body for Transactional Send Classic email in the Campaign Monitor API.
  */
-public class ClassicEmailRequest {
+public class ClassicEmailRequest implements StreamingEntity {
     /**
      * The Subject of the email.
      */
@@ -219,4 +221,18 @@ public class ClassicEmailRequest {
     public void setConsentToTrack(ConsentToTrack consentToTrack) {
         this.consentToTrack = consentToTrack;
     }
+
+    /**
+     * @return true if an attachment is read from a stream, so the request can only be sent once.
+     */
+    @JsonIgnore
+    @Override
+    public boolean isStreaming() {
+        for (Attachment attachment : attachments) {
+            if (attachment.hasContentStream()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -22,11 +22,12 @@
 package com.createsend.models.transactional.request;
 
 import com.createsend.models.subscribers.ConsentToTrack;
+import com.createsend.util.StreamingEntity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.*;
 
-public class SmartEmailRequest {
+public class SmartEmailRequest implements StreamingEntity {
     @JsonIgnore
     private UUID smartEmailId;
     private List<String> to = new ArrayList<>();
@@ -168,4 +169,18 @@ public class SmartEmailRequest {
     public void setConsentToTrack(ConsentToTrack consentToTrack) {
         this.consentToTrack = consentToTrack;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return true if an attachment is read from a stream, so the request can only be sent once.
+     */
+    @JsonIgnore
+    @Override
+    public boolean isStreaming() {
+        for (Attachment attachment : attachments) {
+            if (attachment.hasContentStream()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -23,6 +23,8 @@ package com.createsend.models.transactional.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+
 public class TransactionalStatistics {
     @JsonProperty("Sent")
     private int sent;
@@ -84,6 +86,31 @@ public class TransactionalStatistics {
         return query;
     }
 
+    /**
+     * Adds up the statistics for consecutive date ranges, such as individual days.
+     * @param statistics the statistics to add up, in date order.
+     * @return the combined statistics, with a query covering every range.
+     */
+    public static TransactionalStatistics sum(List<TransactionalStatistics> statistics) {
+        TransactionalStatistics total = new TransactionalStatistics();
+        for (TransactionalStatistics item : statistics) {
+            total.sent += item.sent;
+            total.bounces += item.bounces;
+            total.delivered += item.delivered;
+            total.opened += item.opened;
+            total.clicked += item.clicked;
+        }
+
+        if (!statistics.isEmpty()) {
+            TransactionalStatisticsQuery first = statistics.get(0).query;
+            TransactionalStatisticsQuery last = statistics.get(statistics.size() - 1).query;
+            if (first != null && last != null) {
+                total.query = TransactionalStatisticsQuery.range(first, last);
+            }
+        }
+        return total;
+    }
+
     @Override
     public String toString() {
         return String.format("Sent: %s, Bounces: %s, Delivered: %s, Opened: %s, Clicked: %s", sent, bounces, delivered, opened, clicked);
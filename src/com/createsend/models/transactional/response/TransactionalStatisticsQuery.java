@@ -75,4 +75,18 @@ public class TransactionalStatisticsQuery {
     public String getTimeZone() {
         return timeZone;
     }
+
+    /**
+     * @return a query with the filters of the first query, covering the dates from the
+     * start of the first query to the end of the last.
+     */
+    static TransactionalStatisticsQuery range(TransactionalStatisticsQuery first, TransactionalStatisticsQuery last) {
+        TransactionalStatisticsQuery query = new TransactionalStatisticsQuery();
+        query.group = first.group;
+        query.smartEmailID = first.smartEmailID;
+        query.timeZone = first.timeZone;
+        query.from = first.from;
+        query.to = last.to;
+        return query;
+    }
 }
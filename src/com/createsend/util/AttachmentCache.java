@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * A cache of base64 encoded attachment content, keyed by the SHA-256 hash of the content.
+ *
+ * Attachments which reference an entry with
+ * {@link com.createsend.models.transactional.request.Attachment#setEncodedContent(Entry)}
+ * have the cached encoded bytes copied straight into the request, so content attached to
+ * many emails is only read and encoded once. The least recently used entries are evicted
+ * once the encoded content held exceeds the maximum size.
+ *
+ * Files are only rehashed when their size or modification time changes.
+ */
+public class AttachmentCache {
+    private static final int MAX_FILES = 1024;
+
+    private final long maxSize;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private final Map<Path, FileStamp> files = new LinkedHashMap<Path, FileStamp>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, FileStamp> eldest) {
+            return size() > MAX_FILES;
+        }
+    };
+
+    private long size;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param maxSize The most bytes of encoded content to hold.
+     */
+    public AttachmentCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param file The file to attach
+     * @return The encoded content of the file
+     * @throws IOException If the file could not be read
+     */
+    public Entry get(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+
+        synchronized (this) {
+            FileStamp stamp = files.get(file);
+            if (stamp != null && stamp.size == attributes.size() && stamp.modified == modified) {
+                Entry entry = entries.get(stamp.hash);
+                if (entry != null) {
+                    hits++;
+                    return entry;
+                }
+            }
+        }
+
+        Entry entry = get(Files.readAllBytes(file));
+        synchronized (this) {
+            files.put(file, new FileStamp(attributes.size(), modified, entry.hash));
+        }
+        return entry;
+    }
+
+    /**
+     * @param content The content to attach. The stream is read to the end but not closed.
+     * @return The encoded content
+     * @throws IOException If the stream could not be read
+     */
+    public Entry get(InputStream content) throws IOException {
+        return get(IOUtils.toByteArray(content));
+    }
+
+    /**
+     * @param content The content to attach
+     * @return The encoded content
+     */
+    public Entry get(byte[] content) {
+        String hash = hash(content);
+        synchronized (this) {
+            Entry entry = entries.get(hash);
+            if (entry != null) {
+                hits++;
+                return entry;
+            }
+            misses++;
+        }
+
+        Entry entry = new Entry(hash, Base64.getEncoder().encode(content));
+        synchronized (this) {
+            Entry existing = entries.get(hash);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (entry.encoded.length <= maxSize) {
+                entries.put(hash, entry);
+                size += entry.encoded.length;
+                evict();
+            }
+        }
+        return entry;
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            size -= eldest.next().encoded.length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        files.clear();
+        size = 0;
+    }
+
+    /**
+     * @return The number of bytes of encoded content held.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * @return The number of lookups which found their content already encoded.
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * @return The number of lookups which had to encode their content.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Base64 encoded attachment content.
+     */
+    public static class Entry {
+        private final String hash;
+        private final byte[] encoded;
+
+        Entry(String hash, byte[] encoded) {
+            this.hash = hash;
+            this.encoded = encoded;
+        }
+
+        /**
+         * @return The SHA-256 hash of the content, in hex.
+         */
+        public String getHash() {
+            return hash;
+        }
+
+        /**
+         * @return The length of the encoded content.
+         */
+        public int getEncodedLength() {
+            return encoded.length;
+        }
+
+        /**
+         * Writes the encoded content as a JSON string value. Base64 contains nothing which
+         * needs escaping, so when writing bytes (as requests do) the encoded bytes are copied
+         * into the output as they are.
+         * @param gen The generator to write to
+         * @throws IOException If the content could not be written
+         */
+        public void writeTo(JsonGenerator gen) throws IOException {
+            if (gen.getOutputTarget() instanceof OutputStream) {
+                gen.writeRawUTF8String(encoded, 0, encoded.length);
+            } else {
+                gen.writeString(new String(encoded, StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    private static class FileStamp {
+        final long size;
+        final long modified;
+        final String hash;
+
+        FileStamp(long size, long modified, String hash) {
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of a batch of API calls made for a set of keys, holding the result of every
+ * call which succeeded and the exception thrown by every call which failed.
+ * @param <K> The type of key each call was made for
+ * @param <V> The type of result returned by each call
+ */
+public class BatchResult<K, V> {
+    private final Map<K, V> results;
+    private final Map<K, Exception> failures;
+
+    public BatchResult(Map<K, V> results, Map<K, Exception> failures) {
+        this.results = Collections.unmodifiableMap(results);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return The result of each call which succeeded, in the order the keys were given.
+     */
+    public Map<K, V> getResults() {
+        return results;
+    }
+
+    /**
+     * @return The exception thrown by each call which failed, in the order the keys were given.
+     * API errors are {@link com.createsend.util.exceptions.CreateSendException}s, such as a
+     * {@link com.createsend.util.exceptions.NotFoundException} for a key which does not exist.
+     */
+    public Map<K, Exception> getFailures() {
+        return failures;
+    }
+}
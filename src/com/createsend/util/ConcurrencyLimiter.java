@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.util.Arrays;
+
+/**
+ * Limits the number of requests in flight at once, adapting the limit to how the API
+ * is coping with the load.
+ *
+ * The limit grows additively, by roughly one request per window of successful requests,
+ * while latency is stable. It is cut multiplicatively when a request is rate limited
+ * (HTTP 429, surfaced as a {@link com.createsend.util.exceptions.RateLimitingException}),
+ * fails with a server error (surfaced as a
+ * {@link com.createsend.util.exceptions.ServerErrorException}) or an I/O error, or when the
+ * 90th percentile latency of recent requests rises well above its long term average.
+ *
+ * A limiter is intended to be shared by all clients talking to the same account, in which
+ * case it bounds the combined concurrency of all of them.
+ */
+public class ConcurrencyLimiter {
+    private static final int SAMPLE_WINDOW = 100;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double BASELINE_SMOOTHING = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+
+    private final long[] samples = new long[SAMPLE_WINDOW];
+    private int sampleCount;
+    private double limit;
+    private int inFlight;
+    private long latencyP90;
+    private double baselineP90;
+    private long lastDecrease;
+
+    /**
+     * Creates a limiter using the createsend.concurrency.* settings from the current
+     * {@link Configuration}.
+     */
+    public ConcurrencyLimiter() {
+        this(Configuration.Current.getConcurrencyInitialLimit(),
+             Configuration.Current.getConcurrencyMinLimit(),
+             Configuration.Current.getConcurrencyMaxLimit(),
+             2.0);
+    }
+
+    /**
+     * @param initialLimit The number of requests allowed in flight to start with.
+     * @param minLimit The smallest the limit will shrink to.
+     * @param maxLimit The largest the limit will grow to.
+     * @param latencyTolerance How many times the usual 90th percentile latency recent requests
+     * may take before the limit is reduced.
+     */
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("Latency tolerance must be greater than 1");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastDecrease = System.nanoTime();
+    }
+
+    /**
+     * Waits until another request may be put in flight.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int)limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    /**
+     * Records the outcome of a request made after a call to {@link #acquire()}.
+     * @param latencyNanos How long the request took.
+     * @param overloaded Whether the request failed in a way indicating the API is overloaded.
+     */
+    public synchronized void release(long latencyNanos, boolean overloaded) {
+        inFlight--;
+
+        long now = System.nanoTime();
+        if (overloaded || addSample(latencyNanos)) {
+            // Only back off once per round trip, so a burst of failures from requests
+            // which were all sent under the old limit does not collapse it.
+            if (now - lastDecrease > latencyNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                lastDecrease = now;
+            }
+        } else if (inFlight * 2 >= (int)limit) {
+            // Only grow while the limit is actually being used
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+        notifyAll();
+    }
+
+    /**
+     * @return Whether a full window of samples has just been taken and its 90th percentile
+     * latency is above the tolerated level.
+     */
+    private boolean addSample(long latencyNanos) {
+        samples[sampleCount++] = latencyNanos;
+        if (sampleCount < SAMPLE_WINDOW) {
+            return false;
+        }
+
+        sampleCount = 0;
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        latencyP90 = sorted[(int)(SAMPLE_WINDOW * 0.9) - 1];
+
+        boolean rising = baselineP90 > 0 && latencyP90 > baselineP90 * latencyTolerance;
+        baselineP90 = baselineP90 == 0 ? latencyP90 :
+            baselineP90 + (latencyP90 - baselineP90) * BASELINE_SMOOTHING;
+        return rising;
+    }
+
+    /**
+     * @return The number of requests currently allowed in flight.
+     */
+    public synchronized int getLimit() {
+        return (int)limit;
+    }
+
+    /**
+     * @return The number of requests currently in flight.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return The 90th percentile latency in nanoseconds of the most recent window of
+     * requests, or 0 if a full window has not been seen yet.
+     */
+    public synchronized long getLatencyP90() {
+        return latencyP90;
+    }
+}
@@ -57,6 +57,14 @@ public class Configuration {
         return properties.getProperty("createsend.endpoint");
     }
 
+    /**
+     * @param endpoint The base URI of the API to make requests to, such as a local stand-in
+     * for testing. Applies to requests made after this call.
+     */
+    public void setApiEndpoint(String endpoint) {
+        properties.setProperty("createsend.endpoint", endpoint);
+    }
+
     public String getOAuthBaseUri() {
         return properties.getProperty("createsend.oauthbaseuri");
     }
@@ -68,4 +76,84 @@ public class Configuration {
     public boolean isLoggingEnabled() {
         return Boolean.parseBoolean(properties.getProperty("createsend.logging"));
     }
+
+    public String getTransport() {
+        return properties.getProperty("createsend.transport");
+    }
+
+    public int getConnectTimeout() {
+        return getIntProperty("createsend.transport.connecttimeout", 0);
+    }
+
+    public int getReadTimeout() {
+        return getIntProperty("createsend.transport.readtimeout", 0);
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return getIntProperty("createsend.transport.maxconnectionsperroute", 20);
+    }
+
+    public int getMaxConnections() {
+        return getIntProperty("createsend.transport.maxconnections", 200);
+    }
+
+    public long getIdleConnectionTimeout() {
+        return getIntProperty("createsend.transport.idletimeout", 30000);
+    }
+
+    public int getRetryMaxAttempts() {
+        return getIntProperty("createsend.retry.maxattempts", 1);
+    }
+
+    public long getRetryInitialBackoff() {
+        return getIntProperty("createsend.retry.initialbackoff", 200);
+    }
+
+    public long getRetryMaxBackoff() {
+        return getIntProperty("createsend.retry.maxbackoff", 20000);
+    }
+
+    public long getRetryMaxElapsed() {
+        return getIntProperty("createsend.retry.maxelapsed", 60000);
+    }
+
+    public double getRateLimitPermitsPerSecond() {
+        String value = properties.getProperty("createsend.ratelimit.permitspersecond");
+        if (value == null || value.trim().length() == 0) {
+            return 0;
+        }
+        return Double.parseDouble(value.trim());
+    }
+
+    public int getRateLimitBurst() {
+        return getIntProperty("createsend.ratelimit.burst", 10);
+    }
+
+    public boolean isAdaptiveConcurrencyEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("createsend.concurrency.adaptive"));
+    }
+
+    public int getConcurrencyInitialLimit() {
+        return getIntProperty("createsend.concurrency.initiallimit", 10);
+    }
+
+    public int getConcurrencyMinLimit() {
+        return getIntProperty("createsend.concurrency.minlimit", 1);
+    }
+
+    public int getConcurrencyMaxLimit() {
+        return getIntProperty("createsend.concurrency.maxlimit", 200);
+    }
+
+    public boolean isAfterburnerEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("createsend.json.afterburner"));
+    }
+
+    private int getIntProperty(String name, int defaultValue) {
+        String value = properties.getProperty(name);
+        if (value == null || value.trim().length() == 0) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
 }
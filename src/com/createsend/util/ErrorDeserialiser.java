@@ -25,27 +25,52 @@ import com.createsend.models.ApiErrorResponse;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.GenericType;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Deserialises the body of an API error response. The type of the <code>ResultData</code>
+ * is taken from the type argument of an anonymous subclass, e.g.
+ * <code>new ErrorDeserialiser&lt;ImportResult&gt;() {}</code>. When no type argument is
+ * captured the result data is deserialised as an untyped object.
+ */
 public class ErrorDeserialiser<T> {
+    private static final ConcurrentMap<Class<?>, GenericType<?>> responseTypes =
+        new ConcurrentHashMap<Class<?>, GenericType<?>>();
 
     public ApiErrorResponse<T> getResponse(ClientResponse response) {
-        ParameterizedType returnType = JerseyClientImpl.getGenericReturnType(this.<T>getClass(), 2);
-        Type genericType = this.getClass().getGenericSuperclass();
+        return response.getEntity(getResponseType());
+    }
+
+    @SuppressWarnings("unchecked")
+    private GenericType<ApiErrorResponse<T>> getResponseType() {
+        Class<?> klass = getClass();
+        GenericType<?> responseType = responseTypes.get(klass);
+        if (responseType == null) {
+            responseType = new GenericType<ApiErrorResponse<T>>(
+                new ParameterizedTypeImpl(ApiErrorResponse.class, getResultDataType(klass)));
+            responseTypes.putIfAbsent(klass, responseType);
+        }
+        return (GenericType<ApiErrorResponse<T>>)responseType;
+    }
+
+    private static Type getResultDataType(Class<?> klass) {
+        while (klass.getSuperclass() != ErrorDeserialiser.class) {
+            if (klass == ErrorDeserialiser.class) {
+                return Object.class;
+            }
+            klass = klass.getSuperclass();
+        }
+
+        Type genericType = klass.getGenericSuperclass();
         if (genericType instanceof ParameterizedType) {
-            try {
-                Field f = returnType.getClass().getDeclaredField("actualTypeArguments");
-                f.setAccessible(true);
-                f.set(returnType, ((ParameterizedType)genericType).getActualTypeArguments());
-                f.setAccessible(false);
-            } catch (NoSuchFieldException e) {
-                // ok to ignore
-            } catch (IllegalAccessException e) {
-                // ok to ignore
+            Type resultDataType = ((ParameterizedType)genericType).getActualTypeArguments()[0];
+            if (resultDataType instanceof Class || resultDataType instanceof ParameterizedType) {
+                return resultDataType;
             }
         }
-        return response.getEntity(new GenericType<ApiErrorResponse<T>>(returnType));
+        return Object.class;
     }
 }
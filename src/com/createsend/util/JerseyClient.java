@@ -27,10 +27,18 @@ import javax.ws.rs.core.MultivaluedMap;
 import com.createsend.models.PagedResult;
 import com.createsend.util.exceptions.CreateSendException;
 import com.createsend.util.jersey.ResourceFactory;
+import com.createsend.util.transport.HttpTransport;
+import com.sun.jersey.api.client.GenericType;
 
 public interface JerseyClient {
 	public AuthenticationDetails getAuthenticationDetails();
 	public void setAuthenticationDetails(AuthenticationDetails authDetails);
+	public HttpTransport getTransport();
+	public void setTransport(HttpTransport transport);
+	public RetryPolicy getRetryPolicy();
+	public void setRetryPolicy(RetryPolicy retryPolicy);
+	public ConcurrencyLimiter getConcurrencyLimiter();
+	public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter);
 	
     public <T> T get(Class<T> klass, String... pathElements) throws CreateSendException;
     public <T> T get(Class<T> klass, MultivaluedMap<String, String> queryString,
@@ -39,6 +47,17 @@ public interface JerseyClient {
             String... pathElements) throws CreateSendException;
     public <T> T get(Class<T> klass, MultivaluedMap<String, String> queryString, 
             ResourceFactory resourceFactory, String... pathElements) throws CreateSendException;
+    public <T> PagedResult<T> getPagedResult(GenericType<PagedResult<T>> type, Integer page, Integer pageSize,
+            String orderField, String orderDirection, MultivaluedMap<String, String> queryString,
+            String... pathElements) throws CreateSendException;
+    public <T> PagedResult<T> getPagedResult(GenericType<PagedResult<T>> type, ResultHandler<? super T> handler,
+            Integer page, Integer pageSize, String orderField, String orderDirection,
+            MultivaluedMap<String, String> queryString, String... pathElements) throws CreateSendException;
+    /**
+     * @deprecated Discovers the result type by walking the stack of the caller.
+     * Use {@link #getPagedResult(GenericType, Integer, Integer, String, String, MultivaluedMap, String...)}
+     */
+    @Deprecated
     public <T> PagedResult<T> getPagedResult(Integer page, Integer pageSize, String orderField, 
             String orderDirection, MultivaluedMap<String, String> queryString, String... pathElements) 
             throws CreateSendException;
@@ -21,9 +21,9 @@
  */
 package com.createsend.util;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
-import java.util.Map;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -39,59 +39,164 @@ import com.createsend.util.exceptions.RateLimitingException;
 import com.createsend.util.exceptions.ServerErrorException;
 import com.createsend.util.exceptions.UnauthorisedException;
 import com.createsend.util.jersey.AuthorisedResourceFactory;
-import com.createsend.util.jersey.JsonProvider;
 import com.createsend.util.jersey.ResourceFactory;
+import com.createsend.util.jersey.ConcurrencyLimitFilter;
+import com.createsend.util.jersey.JsonProvider;
+import com.createsend.util.jersey.RateLimitFilter;
+import com.createsend.util.jersey.RetryFilter;
 import com.createsend.util.jersey.UnauthorisedResourceFactory;
-import com.createsend.util.jersey.UserAgentFilter;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.createsend.util.transport.HttpTransport;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.api.client.WebResource;
 import com.sun.jersey.api.client.ClientResponse.Status;
-import com.sun.jersey.api.client.config.ClientConfig;
-import com.sun.jersey.api.client.config.DefaultClientConfig;
-import com.sun.jersey.api.client.filter.GZIPContentEncodingFilter;
-import com.sun.jersey.api.client.filter.LoggingFilter;
 import com.sun.jersey.api.client.UniformInterfaceException;
 import com.sun.jersey.core.util.MultivaluedMapImpl;
 
 public class JerseyClientImpl implements JerseyClient {
 
     /**
-     * As per Jersey docs the creation of a Client is expensive. We cache the client
+     * The transport used by clients which are not given one explicitly. Created lazily
+     * from the createsend.transport configuration property.
      */
-    private static Client client;
-    static {
-        ClientConfig cc = new DefaultClientConfig(); 
-        cc.getClasses().add(JsonProvider.class); 
-        
-        Map<String, Object> properties = cc.getProperties();
-        properties.put(ClientConfig.PROPERTY_CHUNKED_ENCODING_SIZE, 64 * 1024);
-        properties.put(com.sun.jersey.api.json.JSONConfiguration.FEATURE_POJO_MAPPING, "true");
+    private static HttpTransport defaultTransport;
+
+    /**
+     * @return The transport shared by all clients created without an explicit transport.
+     */
+    public static synchronized HttpTransport getDefaultTransport() {
+        if (defaultTransport == null) {
+            defaultTransport = HttpTransport.fromConfiguration();
+        }
+        return defaultTransport;
+    }
+
+    /**
+     * Sets the transport used by clients created after this call without an explicit transport.
+     * The previous default transport is not shut down as existing clients may still be using it.
+     * @param transport The transport to use by default.
+     */
+    public static synchronized void setDefaultTransport(HttpTransport transport) {
+        defaultTransport = transport;
+    }
+
+    /**
+     * The retry policy used by clients which are not given one explicitly. Unless one is set,
+     * a policy is only created when createsend.retry.maxattempts allows more than one attempt.
+     */
+    private static RetryPolicy defaultRetryPolicy;
+    private static boolean defaultRetryPolicyConfigured;
 
-        client = Client.create(cc);
-        client.setFollowRedirects(false);
+    /**
+     * @return The retry policy shared by all clients created without an explicit policy,
+     * or <code>null</code> if requests are not retried by default.
+     */
+    public static synchronized RetryPolicy getDefaultRetryPolicy() {
+        if (!defaultRetryPolicyConfigured) {
+            if (Configuration.Current.getRetryMaxAttempts() > 1) {
+                defaultRetryPolicy = new RetryPolicy();
+            }
+            defaultRetryPolicyConfigured = true;
+        }
+        return defaultRetryPolicy;
+    }
+
+    /**
+     * Sets the retry policy used by clients created after this call.
+     * @param retryPolicy The policy to use by default, or <code>null</code> to not retry by default.
+     */
+    public static synchronized void setDefaultRetryPolicy(RetryPolicy retryPolicy) {
+        defaultRetryPolicy = retryPolicy;
+        defaultRetryPolicyConfigured = true;
+    }
+
+    /**
+     * The concurrency limiter used by clients which are not given one explicitly. Unless one
+     * is set, a limiter is only created when createsend.concurrency.adaptive is enabled.
+     */
+    private static ConcurrencyLimiter defaultConcurrencyLimiter;
+    private static boolean defaultConcurrencyLimiterConfigured;
 
-        if (Configuration.Current.isLoggingEnabled()) {
-            client.addFilter(new LoggingFilter(System.out));
+    /**
+     * @return The concurrency limiter shared by all clients created without an explicit limiter,
+     * or <code>null</code> if concurrency is not limited by default.
+     */
+    public static synchronized ConcurrencyLimiter getDefaultConcurrencyLimiter() {
+        if (!defaultConcurrencyLimiterConfigured) {
+            if (Configuration.Current.isAdaptiveConcurrencyEnabled()) {
+                defaultConcurrencyLimiter = new ConcurrencyLimiter();
+            }
+            defaultConcurrencyLimiterConfigured = true;
         }
+        return defaultConcurrencyLimiter;
+    }
 
-        client.addFilter(new GZIPContentEncodingFilter(false));
-        client.addFilter(new UserAgentFilter());
+    /**
+     * Sets the concurrency limiter used by clients created after this call.
+     * @param concurrencyLimiter The limiter to use by default, or <code>null</code> to not
+     * limit concurrency by default.
+     */
+    public static synchronized void setDefaultConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        defaultConcurrencyLimiter = concurrencyLimiter;
+        defaultConcurrencyLimiterConfigured = true;
     }
 
     private ErrorDeserialiser<String> defaultDeserialiser = new ErrorDeserialiser<String>(){};
-    private ObjectMapper mapper = new ObjectMapper();
     private ResourceFactory authorisedResourceFactory;
+    private RateLimiter rateLimiter;
     private AuthenticationDetails authDetails;
+    private HttpTransport transport;
+    private Client client;
+    private RetryPolicy retryPolicy = getDefaultRetryPolicy();
+    private ConcurrencyLimiter concurrencyLimiter = getDefaultConcurrencyLimiter();
 
     /**
      * Constructs a JerseyClientImpl instance, including an OAuth access token and refresh token.
      * @param auth 
      */
     public JerseyClientImpl(AuthenticationDetails auth) {
+    	this(auth, getDefaultTransport());
+    }
+
+    /**
+     * Constructs a JerseyClientImpl instance which makes requests using the given transport.
+     * @param auth The authentication details to use when making API calls.
+     * @param transport The transport to make requests with.
+     */
+    public JerseyClientImpl(AuthenticationDetails auth, HttpTransport transport) {
     	this.setAuthenticationDetails(auth);
+    	this.setTransport(transport);
+    }
+
+    public HttpTransport getTransport() {
+    	return this.transport;
+    }
+
+    public void setTransport(HttpTransport transport) {
+    	this.transport = transport;
+    	this.client = transport.getClient();
+    }
+
+    public RetryPolicy getRetryPolicy() {
+    	return this.retryPolicy;
+    }
+
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+    	this.retryPolicy = retryPolicy;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+    	return this.concurrencyLimiter;
+    }
+
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+    	this.concurrencyLimiter = concurrencyLimiter;
     }
     
     public AuthenticationDetails getAuthenticationDetails() {
@@ -103,11 +208,14 @@ public class JerseyClientImpl implements JerseyClient {
     	if (authDetails instanceof OAuthAuthenticationDetails) {
 			OAuthAuthenticationDetails oauthDetails = (OAuthAuthenticationDetails)authDetails;
 			authorisedResourceFactory = new AuthorisedResourceFactory(oauthDetails.getAccessToken());
+			rateLimiter = RateLimiter.forAuthentication(authDetails);
     	} else if (authDetails instanceof ApiKeyAuthenticationDetails) {
 			ApiKeyAuthenticationDetails apiKeyDetails = (ApiKeyAuthenticationDetails)authDetails;
 			authorisedResourceFactory = new AuthorisedResourceFactory(apiKeyDetails.getApiKey(), "x");
+			rateLimiter = RateLimiter.forAuthentication(authDetails);
     	} else {
     		authorisedResourceFactory = new UnauthorisedResourceFactory();
+    		rateLimiter = null;
     	}
 	}
 
@@ -153,7 +261,7 @@ public class JerseyClientImpl implements JerseyClient {
     public <T> T get(Class<T> klass, MultivaluedMap<String, String> queryString,
         ResourceFactory resourceFactory, ErrorDeserialiser<?> errorDeserialiser, 
         String... pathElements) throws CreateSendException {
-        WebResource resource = resourceFactory.getResource(client, pathElements);
+        WebResource resource = getResource(resourceFactory, null, pathElements);
         
         if(queryString != null) {
             resource = resource.queryParams(queryString);
@@ -170,32 +278,123 @@ public class JerseyClientImpl implements JerseyClient {
      * Performs a HTTP GET on the route specified attempting to deserialise the
      * result to a paged result of the given type.
      * @param <T> The type of paged result data expected from the API call. 
+     * @param type The type token of the paged result, e.g.
+     * <code>new GenericType&lt;PagedResult&lt;Subscriber&gt;&gt;() {}</code>. Type tokens are
+     * immutable and should be created once and reused.
      * @param queryString The query string values to use for the request.
      * @param pathElements The path of the API resource to access
      * @return The model returned from the API call
      * @throws CreateSendException If the API call results in a HTTP status code >= 400
      */
-    public <T> PagedResult<T> getPagedResult(Integer page, Integer pageSize, String orderField, 
-        String orderDirection, MultivaluedMap<String, String> queryString, String... pathElements) 
-        throws CreateSendException {
-        WebResource resource = authorisedResourceFactory.getResource(client, pathElements);
+    public <T> PagedResult<T> getPagedResult(GenericType<PagedResult<T>> type, Integer page, Integer pageSize,
+        String orderField, String orderDirection, MultivaluedMap<String, String> queryString,
+        String... pathElements) throws CreateSendException {
+        WebResource resource = getResource(authorisedResourceFactory, null, pathElements);
         if(queryString == null) queryString = new MultivaluedMapImpl();
         
         addPagingParams(queryString, page, pageSize, orderField, orderDirection);
+        resource = resource.queryParams(queryString);
         
         try {
-            if(queryString != null) {
-                resource = resource.queryParams(queryString);
-            }
-            
-            return resource.get(new GenericType<PagedResult<T>>(getGenericReturnType()));
+            return resource.get(type);
         } catch (UniformInterfaceException ue) {
             throw handleErrorResponse(ue, defaultDeserialiser);
-        } catch (SecurityException e) {
-            e.printStackTrace();
         }
-        
-        return null;
+    }
+
+    /**
+     * Performs a HTTP GET on the route specified, passing each result on the page to the
+     * given handler as it is read from the response. Only one result is held in memory
+     * at a time.
+     * @param <T> The type of paged result data expected from the API call.
+     * @param type The type token of the paged result, e.g.
+     * <code>new GenericType&lt;PagedResult&lt;Subscriber&gt;&gt;() {}</code>.
+     * @param handler The handler to pass each result to, or <code>null</code> to return the
+     * results in {@link PagedResult#Results} as usual.
+     * @param queryString The query string values to use for the request.
+     * @param pathElements The path of the API resource to access
+     * @return The paging details of the page. {@link PagedResult#Results} is <code>null</code>
+     * if a handler was given.
+     * @throws CreateSendException If the API call results in a HTTP status code >= 400
+     */
+    public <T> PagedResult<T> getPagedResult(GenericType<PagedResult<T>> type, ResultHandler<? super T> handler,
+        Integer page, Integer pageSize, String orderField, String orderDirection,
+        MultivaluedMap<String, String> queryString, String... pathElements) throws CreateSendException {
+        if (handler == null) {
+            return getPagedResult(type, page, pageSize, orderField, orderDirection, queryString, pathElements);
+        }
+
+        WebResource resource = getResource(authorisedResourceFactory, null, pathElements);
+        if(queryString == null) queryString = new MultivaluedMapImpl();
+
+        addPagingParams(queryString, page, pageSize, orderField, orderDirection);
+        resource = resource.queryParams(queryString);
+
+        ClientResponse response = resource.get(ClientResponse.class);
+        if (response.getStatus() >= 300) {
+            throw handleErrorResponse(new UniformInterfaceException(response), defaultDeserialiser);
+        }
+
+        ObjectReader reader = JsonProvider.readerFor(
+            ((ParameterizedType)type.getType()).getActualTypeArguments()[0]);
+        try (JsonParser parser = reader.getFactory().createParser(response.getEntityInputStream())) {
+            return readPagedResult(parser, reader, handler);
+        } catch (IOException e) {
+            throw new ClientHandlerException(e);
+        } finally {
+            response.close();
+        }
+    }
+
+    private <T> PagedResult<T> readPagedResult(JsonParser parser, ObjectReader reader,
+        ResultHandler<? super T> handler) throws IOException {
+        PagedResult<T> result = new PagedResult<T>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a paged result object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            if ("Results".equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    T item = reader.readValue(parser);
+                    handler.handle(item);
+                }
+            } else if ("ResultsOrderedBy".equals(field)) {
+                result.ResultsOrderedBy = parser.getValueAsString();
+            } else if ("OrderDirection".equals(field)) {
+                result.OrderDirection = parser.getValueAsString();
+            } else if ("PageNumber".equals(field)) {
+                result.PageNumber = parser.getValueAsInt();
+            } else if ("PageSize".equals(field)) {
+                result.PageSize = parser.getValueAsInt();
+            } else if ("RecordsOnThisPage".equals(field)) {
+                result.RecordsOnThisPage = parser.getValueAsInt();
+            } else if ("TotalNumberOfRecords".equals(field)) {
+                result.TotalNumberOfRecords = parser.getValueAsInt();
+            } else if ("NumberOfPages".equals(field)) {
+                result.NumberOfPages = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs a HTTP GET on the route specified attempting to deserialise the
+     * result to a paged result of the return type of the calling method.
+     * @deprecated Walking the stack to find the result type is slow and unreliable.
+     * Use {@link #getPagedResult(GenericType, Integer, Integer, String, String, MultivaluedMap, String...)}
+     */
+    @Deprecated
+    public <T> PagedResult<T> getPagedResult(Integer page, Integer pageSize, String orderField, 
+        String orderDirection, MultivaluedMap<String, String> queryString, String... pathElements) 
+        throws CreateSendException {
+        GenericType<PagedResult<T>> type = new GenericType<PagedResult<T>>(getGenericReturnType());
+        return getPagedResult(type, page, pageSize, orderField, orderDirection, queryString, pathElements);
     }
         
     /**
@@ -253,11 +452,7 @@ public class JerseyClientImpl implements JerseyClient {
                       ErrorDeserialiser<?> errorDeserialiser,
                       MediaType mediaType,
                       String... pathElements) throws CreateSendException {
-        WebResource resource;
-        if (baseUri != null)
-            resource = authorisedResourceFactory.getResource(baseUri, client, pathElements);
-        else
-            resource = authorisedResourceFactory.getResource(client, pathElements);
+        WebResource resource = getResource(authorisedResourceFactory, baseUri, pathElements);
 
         if( queryString != null )
             resource = resource.queryParams(queryString);
@@ -288,7 +483,7 @@ public class JerseyClientImpl implements JerseyClient {
     }
     
     public <T> T put(Class<T> klass, Object entity, String... pathElements) throws CreateSendException {
-        WebResource resource = authorisedResourceFactory.getResource(client, pathElements);
+        WebResource resource = getResource(authorisedResourceFactory, null, pathElements);
         try { 
             return fixStringResult(klass, resource.
                 type(MediaType.APPLICATION_JSON_TYPE).
@@ -309,7 +504,7 @@ public class JerseyClientImpl implements JerseyClient {
 
     private void put(Object entity, MultivaluedMap<String, String> queryString, ErrorDeserialiser<?> errorDeserialiser,
         String... pathElements) throws CreateSendException {
-        WebResource resource = authorisedResourceFactory.getResource(client, pathElements);
+        WebResource resource = getResource(authorisedResourceFactory, null, pathElements);
         
         if(queryString != null) {
             resource = resource.queryParams(queryString);
@@ -340,7 +535,7 @@ public class JerseyClientImpl implements JerseyClient {
      */
     @Override
 	public void delete(MultivaluedMap<String, String> queryString, String... pathElements) throws CreateSendException {
-        WebResource resource = authorisedResourceFactory.getResource(client, pathElements);
+        WebResource resource = getResource(authorisedResourceFactory, null, pathElements);
         
         if( queryString != null )
         	resource = resource.queryParams(queryString);
@@ -352,6 +547,36 @@ public class JerseyClientImpl implements JerseyClient {
         }
     }
 
+    /**
+     * Creates the resource for a request, adding the filters which apply to every request
+     * made by this client.
+     * @param resourceFactory The factory to create the resource with
+     * @param baseUri The base URI of the resource, or <code>null</code> to use the API endpoint
+     * @param pathElements The path of the API resource to access
+     * @return The resource to make the request against
+     */
+    private WebResource getResource(ResourceFactory resourceFactory, String baseUri, String... pathElements) {
+        WebResource resource = baseUri == null ?
+            resourceFactory.getResource(client, pathElements) :
+            resourceFactory.getResource(baseUri, client, pathElements);
+
+        // Filters added later run first. Each attempt waits for its own rate limit permit and
+        // then holds its own concurrency slot, so the wait for a permit is not counted as the
+        // request's latency.
+        if (concurrencyLimiter != null) {
+            resource.addFilter(new ConcurrencyLimitFilter(concurrencyLimiter));
+        }
+
+        if (rateLimiter != null && resourceFactory == authorisedResourceFactory) {
+            resource.addFilter(new RateLimitFilter(rateLimiter));
+        }
+
+        if (retryPolicy != null) {
+            resource.addFilter(new RetryFilter(retryPolicy));
+        }
+        return resource;
+    }
+
     protected void addPagingParams(MultivaluedMap<String, String> queryString,  
         Integer page, Integer pageSize, String orderField, String orderDirection) {        
         if(page != null) {
@@ -419,8 +644,11 @@ public class JerseyClientImpl implements JerseyClient {
         if (responseStatus == null) {
             try {
                 // Use Jackson directly to deserialise the reponse payload
-                apiResponse = mapper.readValue(response.getEntityInputStream(), ApiErrorResponse.class);
-            } catch (Throwable t) { }
+                apiResponse = JsonProvider.readerFor(ApiErrorResponse.class).readValue(response.getEntityInputStream());
+            } catch (Throwable t) {
+            } finally {
+                response.close();
+            }
 
             return handleUnknownStatusError(statusCode, apiResponse);
         }
@@ -491,6 +719,11 @@ public class JerseyClientImpl implements JerseyClient {
         return getGenericReturnType(null, 4);
     }
     
+    /**
+     * @deprecated Only used to support the deprecated, untyped
+     * {@link #getPagedResult(Integer, Integer, String, String, MultivaluedMap, String...)}
+     */
+    @Deprecated
     public static ParameterizedType getGenericReturnType(Class<?> klass, int stackFrame) {   
         StackTraceElement element = Thread.currentThread().getStackTrace()[stackFrame];
         String callingMethodName = element.getMethodName();
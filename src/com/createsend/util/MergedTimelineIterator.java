@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.createsend.models.transactional.response.MessageLogItem;
+
+/**
+ * Merges several delivery logs, each ordered newest message first, into a single log in
+ * the same order, e.g. to build one feed from the timelines of many clients.
+ *
+ * The head message of each log is kept in a heap ordered by SentAt, so only the windows
+ * currently being read from each log are held in memory. The first window of every log is
+ * fetched concurrently on the given executor. Messages sent at the same time are returned in
+ * the order of the logs they came from.
+ *
+ * An API error while fetching a window is thrown from {@link #hasNext()} or {@link #next()}
+ * as an {@link com.createsend.util.exceptions.UncheckedCreateSendException}. If the first
+ * window of any log cannot be fetched, that error is thrown again from every later call
+ * rather than merging only the other logs.
+ */
+public class MergedTimelineIterator implements Iterator<MessageLogItem> {
+    private final List<? extends Iterator<MessageLogItem>> timelines;
+    private final Executor executor;
+    private final PriorityQueue<Head> heads = new PriorityQueue<Head>();
+    private boolean started;
+    private RuntimeException failure;
+
+    /**
+     * @param timelines The logs to merge, each returning messages newest first
+     * @param executor The executor to fetch the first window of each log on
+     */
+    public MergedTimelineIterator(List<? extends Iterator<MessageLogItem>> timelines, Executor executor) {
+        this.timelines = timelines;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (failure != null) {
+            throw failure;
+        }
+        if (!started) {
+            start();
+        }
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public MessageLogItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Head head = heads.poll();
+        MessageLogItem item = head.item;
+        Iterator<MessageLogItem> timeline = timelines.get(head.source);
+        if (timeline.hasNext()) {
+            heads.add(new Head(timeline.next(), head.source));
+        }
+        return item;
+    }
+
+    private void start() {
+        List<CompletableFuture<MessageLogItem>> first = new ArrayList<CompletableFuture<MessageLogItem>>(timelines.size());
+        for (final Iterator<MessageLogItem> timeline : timelines) {
+            first.add(CompletableFuture.supplyAsync(() -> timeline.hasNext() ? timeline.next() : null, executor));
+        }
+
+        // Every first window is waited for, so none is still being fetched if one fails
+        RuntimeException failed = null;
+        for (int source = 0; source < first.size(); source++) {
+            MessageLogItem item;
+            try {
+                item = first.get(source).join();
+            } catch (CompletionException e) {
+                if (failed == null) {
+                    failed = e.getCause() instanceof RuntimeException ? (RuntimeException)e.getCause() : e;
+                }
+                continue;
+            }
+
+            if (item != null) {
+                heads.add(new Head(item, source));
+            }
+        }
+
+        if (failed != null) {
+            heads.clear();
+            failure = failed;
+            throw failed;
+        }
+        started = true;
+    }
+
+    private static class Head implements Comparable<Head> {
+        final MessageLogItem item;
+        final int source;
+        final long sentAt;
+
+        Head(MessageLogItem item, int source) {
+            this.item = item;
+            this.source = source;
+            Date date = item.getSentAt();
+            this.sentAt = date == null ? Long.MIN_VALUE : date.getTime();
+        }
+
+        public int compareTo(Head other) {
+            // Newest first
+            int order = Long.compare(other.sentAt, sentAt);
+            return order != 0 ? order : Integer.compare(source, other.source);
+        }
+    }
+}
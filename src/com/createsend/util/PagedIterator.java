@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.createsend.models.PagedResult;
+import com.createsend.util.exceptions.CreateSendException;
+import com.createsend.util.exceptions.UncheckedCreateSendException;
+
+/**
+ * Iterates over every result of a paged API call, fetching the pages following the
+ * current one in the background.
+ *
+ * The first page is fetched when iteration starts and its NumberOfPages decides how many
+ * pages are fetched in total. Up to <code>lookahead</code> of the following pages are then
+ * fetched concurrently on the given executor, while results are still returned in page order.
+ *
+ * <pre>
+ * Iterator&lt;SubscriberWithJoinedDate&gt; subscribers = new PagedIterator&lt;SubscriberWithJoinedDate&gt;(
+ *     page -&gt; lists.active(date, page, 1000, "email", "asc"), executor, 4);
+ * </pre>
+ *
+ * An API error while fetching a page is thrown from {@link #hasNext()} or {@link #next()}
+ * as an {@link UncheckedCreateSendException}.
+ * @param <T> The type of result being iterated over
+ */
+public class PagedIterator<T> implements Iterator<T> {
+    private final PageFetcher<T> fetcher;
+    private final Executor executor;
+    private final int lookahead;
+    private final Deque<CompletableFuture<PagedResult<T>>> pending =
+        new ArrayDeque<CompletableFuture<PagedResult<T>>>();
+
+    private PagedResult<T> first;
+    private int nextPage;
+    private int lastPage;
+    private T[] results;
+    private int index;
+
+    /**
+     * @param fetcher Fetches a page of results
+     * @param executor The executor to fetch following pages on
+     * @param lookahead The most pages to fetch ahead of the page being iterated over
+     */
+    public PagedIterator(PageFetcher<T> fetcher, Executor executor, int lookahead) {
+        this(fetcher, executor, lookahead, null, 1, -1);
+    }
+
+    /**
+     * Creates an iterator over a range of pages.
+     * @param first The first page of the range if it has already been fetched, otherwise <code>null</code>
+     * @param fromPage The number of the first page to iterate over
+     * @param lastPage The number of the last page to iterate over, or -1 to take it from the first page
+     */
+    PagedIterator(PageFetcher<T> fetcher, Executor executor, int lookahead,
+        PagedResult<T> first, int fromPage, int lastPage) {
+        if (lookahead < 0) {
+            throw new IllegalArgumentException("Lookahead must not be negative");
+        }
+
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.lookahead = lookahead;
+        this.first = first;
+        this.nextPage = fromPage;
+        this.lastPage = lastPage;
+    }
+
+    /**
+     * Fetches the first page and returns a stream over every result of a paged API call.
+     * The stream splits by ranges of pages so can be consumed in parallel, with each range
+     * fetching ahead on the given executor.
+     * @param fetcher Fetches a page of results
+     * @param executor The executor to fetch following pages on
+     * @param lookahead The most pages each range fetches ahead of the page being consumed
+     * @param parallel Whether to return a parallel stream
+     * @return A stream of every result
+     * @throws CreateSendException If the first page could not be fetched
+     */
+    public static <T> Stream<T> stream(PageFetcher<T> fetcher, Executor executor, int lookahead,
+        boolean parallel) throws CreateSendException {
+        PagedResult<T> first = fetcher.fetch(1);
+        return StreamSupport.stream(new PagedSpliterator<T>(
+            fetcher, executor, lookahead, first, 1, first.NumberOfPages), parallel);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (results == null || index >= results.length) {
+            PagedResult<T> page = nextPage();
+            if (page == null) {
+                return false;
+            }
+
+            results = page.Results;
+            index = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return results[index++];
+    }
+
+    private PagedResult<T> nextPage() {
+        PagedResult<T> page;
+        if (first != null) {
+            page = first;
+            first = null;
+            nextPage++;
+        } else if (!pending.isEmpty()) {
+            page = await(pending.poll());
+        } else if (lastPage < 0 || nextPage <= lastPage) {
+            page = fetch(nextPage++);
+        } else {
+            return null;
+        }
+
+        if (lastPage < 0) {
+            lastPage = page.NumberOfPages;
+        }
+
+        while (pending.size() < lookahead && nextPage <= lastPage) {
+            final int number = nextPage++;
+            pending.add(CompletableFuture.supplyAsync(() -> fetch(number), executor));
+        }
+        return page;
+    }
+
+    private PagedResult<T> fetch(int page) {
+        try {
+            return fetcher.fetch(page);
+        } catch (CreateSendException e) {
+            throw new UncheckedCreateSendException(e);
+        }
+    }
+
+    private PagedResult<T> await(CompletableFuture<PagedResult<T>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw e;
+        }
+    }
+}
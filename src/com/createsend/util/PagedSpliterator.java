@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import com.createsend.models.PagedResult;
+
+/**
+ * A Spliterator over a range of pages of a paged API call. Splits divide the range of
+ * pages in half, and each range is iterated by its own {@link PagedIterator}.
+ */
+class PagedSpliterator<T> implements Spliterator<T> {
+    private final PageFetcher<T> fetcher;
+    private final Executor executor;
+    private final int lookahead;
+    private final int pageSize;
+
+    private PagedResult<T> first;
+    private int fromPage;
+    private final int lastPage;
+    private PagedIterator<T> iterator;
+
+    PagedSpliterator(PageFetcher<T> fetcher, Executor executor, int lookahead,
+        PagedResult<T> first, int fromPage, int lastPage) {
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.lookahead = lookahead;
+        this.pageSize = first.PageSize;
+        this.first = first;
+        this.fromPage = fromPage;
+        this.lastPage = lastPage;
+    }
+
+    private PagedSpliterator(PagedSpliterator<T> parent, int lastPage) {
+        this.fetcher = parent.fetcher;
+        this.executor = parent.executor;
+        this.lookahead = parent.lookahead;
+        this.pageSize = parent.pageSize;
+        this.first = parent.first;
+        this.fromPage = parent.fromPage;
+        this.lastPage = lastPage;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (iterator == null) {
+            iterator = new PagedIterator<T>(fetcher, executor, lookahead, first, fromPage, lastPage);
+            first = null;
+        }
+
+        if (!iterator.hasNext()) {
+            return false;
+        }
+
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (iterator != null || lastPage <= fromPage) {
+            return null;
+        }
+
+        int middle = (fromPage + lastPage) >>> 1;
+        PagedSpliterator<T> prefix = new PagedSpliterator<T>(this, middle);
+        first = null;
+        fromPage = middle + 1;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator != null ? Long.MAX_VALUE : (long)Math.max(0, lastPage - fromPage + 1) * pageSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
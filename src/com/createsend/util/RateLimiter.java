@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A client side rate limiter shared by every request made with the same credentials.
+ *
+ * Permits are handed out at a steady rate with bursts of up to a fixed number of requests.
+ * The limiter tracks the theoretical arrival time of the next request (the generic cell rate
+ * algorithm) in a single atomic value, so acquiring a permit is lock free and a caller only
+ * waits when it is actually ahead of the allowed rate.
+ */
+public class RateLimiter {
+    private static final ConcurrentMap<String, RateLimiter> limiters =
+        new ConcurrentHashMap<String, RateLimiter>();
+
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong throttled = new AtomicLong();
+
+    /**
+     * @param permitsPerSecond The sustained number of requests allowed per second.
+     * @param burst The number of requests which may be made at once after a quiet period.
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Must allow a positive number of permits per second");
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("Must allow bursts of at least one request");
+        }
+
+        this.interval = (long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.tolerance = interval * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Gets the rate limiter shared by every client using the given credentials, creating it
+     * from the createsend.ratelimit.* settings in the current {@link Configuration} if needed.
+     * @param auth The authentication details requests are made with.
+     * @return The shared rate limiter, or <code>null</code> if requests made with these
+     * credentials are not rate limited.
+     */
+    public static RateLimiter forAuthentication(AuthenticationDetails auth) {
+        String key = getKey(auth);
+        if (key == null) {
+            return null;
+        }
+
+        RateLimiter limiter = limiters.get(key);
+        if (limiter == null) {
+            double permitsPerSecond = Configuration.Current.getRateLimitPermitsPerSecond();
+            if (permitsPerSecond <= 0) {
+                return null;
+            }
+
+            limiter = new RateLimiter(permitsPerSecond, Configuration.Current.getRateLimitBurst());
+            RateLimiter existing = limiters.putIfAbsent(key, limiter);
+            if (existing != null) {
+                limiter = existing;
+            }
+        }
+        return limiter;
+    }
+
+    /**
+     * Sets the rate limit for requests made with the given credentials. Only clients
+     * created after this call use the new limit.
+     * @param auth The authentication details to limit.
+     * @param permitsPerSecond The sustained number of requests allowed per second.
+     * @param burst The number of requests which may be made at once after a quiet period.
+     */
+    public static void setRateLimit(AuthenticationDetails auth, double permitsPerSecond, int burst) {
+        String key = getKey(auth);
+        if (key != null) {
+            limiters.put(key, new RateLimiter(permitsPerSecond, burst));
+        }
+    }
+
+    private static String getKey(AuthenticationDetails auth) {
+        if (auth instanceof ApiKeyAuthenticationDetails) {
+            return "apikey:" + ((ApiKeyAuthenticationDetails)auth).getApiKey();
+        }
+
+        if (auth instanceof OAuthAuthenticationDetails) {
+            return "oauth:" + ((OAuthAuthenticationDetails)auth).getAccessToken();
+        }
+        return null;
+    }
+
+    /**
+     * Waits until a request may be made.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        long now, arrival;
+        do {
+            now = System.nanoTime();
+            arrival = theoreticalArrival.get();
+        } while (!theoreticalArrival.compareAndSet(arrival, Math.max(arrival, now) + interval));
+
+        long wait = arrival - tolerance - now;
+        if (wait <= 0) {
+            return;
+        }
+
+        throttled.incrementAndGet();
+        long deadline = now + wait;
+        while ((wait = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * @return The number of requests which have had to wait for a permit.
+     */
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Controls how requests which fail with HTTP 429 (Too Many Requests) or a 5xx server error
+ * are retried.
+ *
+ * Retries are delayed using exponential backoff with full jitter, unless the API sends a
+ * Retry-After header in which case that delay is used. Only idempotent requests
+ * (GET, PUT, DELETE) are retried, along with any POSTs whose path has been marked as safe
+ * to retry with {@link #addRetryablePost(String)}.
+ *
+ * A policy may be shared by many clients, in which case its counters cover all of them.
+ */
+public class RetryPolicy {
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final long maxElapsed;
+    private final List<Pattern> retryablePosts = new CopyOnWriteArrayList<Pattern>();
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    /**
+     * Creates a policy using the createsend.retry.* settings from the current {@link Configuration}.
+     */
+    public RetryPolicy() {
+        this(Configuration.Current.getRetryMaxAttempts(),
+             Configuration.Current.getRetryInitialBackoff(),
+             Configuration.Current.getRetryMaxBackoff(),
+             Configuration.Current.getRetryMaxElapsed());
+    }
+
+    /**
+     * @param maxAttempts The maximum number of times a request is attempted, including the first attempt.
+     * @param initialBackoff The upper bound in milliseconds of the delay before the first retry.
+     * The bound doubles with each subsequent retry.
+     * @param maxBackoff The largest delay in milliseconds between two attempts.
+     * @param maxElapsed The longest time in milliseconds to keep retrying a request for. A retry is
+     * not attempted if its delay would take the request past this limit.
+     */
+    public RetryPolicy(int maxAttempts, long initialBackoff, long maxBackoff, long maxElapsed) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Must allow at least one attempt");
+        }
+
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxElapsed = maxElapsed;
+    }
+
+    /**
+     * Marks POST requests to matching paths as safe to retry.
+     * @param pathPattern A regular expression found in the path of the request,
+     * e.g. <code>/subscribers/[^/]+\.json$</code>
+     */
+    public void addRetryablePost(String pathPattern) {
+        retryablePosts.add(Pattern.compile(pathPattern));
+    }
+
+    /**
+     * @return The maximum number of times a request is attempted.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return The longest time in milliseconds a request will be retried for.
+     */
+    public long getMaxElapsed() {
+        return maxElapsed;
+    }
+
+    /**
+     * @param method The HTTP method of the request
+     * @param uri The URI of the request
+     * @return Whether the request may be safely sent more than once.
+     */
+    public boolean isRetryable(String method, URI uri) {
+        if ("GET".equals(method) || "HEAD".equals(method) ||
+            "PUT".equals(method) || "DELETE".equals(method)) {
+            return true;
+        }
+
+        if ("POST".equals(method)) {
+            String path = uri.getRawPath();
+            for (Pattern pattern : retryablePosts) {
+                if (pattern.matcher(path).find()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param httpStatusCode The HTTP status code of the response.
+     * @return Whether a response with the given status is worth retrying.
+     */
+    public boolean isRetryableStatus(int httpStatusCode) {
+        return httpStatusCode == 429 ||
+            (httpStatusCode >= 500 && httpStatusCode != 501 && httpStatusCode != 505);
+    }
+
+    /**
+     * @param attempt The number of the attempt which just failed, starting at 1.
+     * @param retryAfter The delay in milliseconds requested by the API, or a negative value if
+     * the API did not request one.
+     * @return The number of milliseconds to wait before the next attempt.
+     */
+    public long getBackoff(int attempt, long retryAfter) {
+        if (retryAfter >= 0) {
+            return retryAfter;
+        }
+
+        long ceiling = initialBackoff << Math.min(attempt - 1, 30);
+        if (ceiling <= 0 || ceiling > maxBackoff) {
+            ceiling = maxBackoff;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * @return The total number of retries made.
+     */
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /**
+     * @return The number of requests which succeeded after being retried.
+     */
+    public long getRecoveredCount() {
+        return recovered.get();
+    }
+
+    /**
+     * @return The number of requests which were still failing when the policy gave up on them.
+     */
+    public long getExhaustedCount() {
+        return exhausted.get();
+    }
+
+    /**
+     * Records that a request is about to be retried.
+     */
+    public void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    /**
+     * Records that a request succeeded after being retried.
+     */
+    public void recordRecovered() {
+        recovered.incrementAndGet();
+    }
+
+    /**
+     * Records that a request failed and will not be retried any further.
+     */
+    public void recordExhausted() {
+        exhausted.incrementAndGet();
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.createsend.models.transactional.response.MessageSent;
+import com.createsend.util.exceptions.CreateSendException;
+
+/**
+ * Suppresses duplicate transactional sends made within a time window, returning the
+ * acknowledgement of the original send instead of sending again.
+ *
+ * Sends are identified by a key, hashed to 128 bits so each one remembered takes a fixed
+ * amount of memory. Keys are held in two generations, each covering one window, so a key is
+ * remembered for between one and two windows after it was sent. A generation holding half
+ * the maximum number of keys is rotated early, which shortens the window under heavy load
+ * rather than letting memory grow.
+ *
+ * A duplicate of a send still in flight waits for it and gets its result. A send which
+ * fails is forgotten, so it may be retried.
+ */
+public class SendDeduplicator {
+    private final long window;
+    private final int maxGenerationSize;
+
+    private Map<Key, CompletableFuture<MessageSent[]>> current = new HashMap<Key, CompletableFuture<MessageSent[]>>();
+    private Map<Key, CompletableFuture<MessageSent[]>> previous = new HashMap<Key, CompletableFuture<MessageSent[]>>();
+    private long rotated = System.nanoTime();
+    private long suppressed;
+
+    /**
+     * @param window How long in milliseconds a send is remembered for, at least
+     * @param maxEntries The most sends to remember at once
+     */
+    public SendDeduplicator(long window, int maxEntries) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+
+        if (maxEntries < 2) {
+            throw new IllegalArgumentException("Must remember at least two sends");
+        }
+
+        this.window = TimeUnit.MILLISECONDS.toNanos(window);
+        this.maxGenerationSize = maxEntries / 2;
+    }
+
+    /**
+     * Makes a send unless one with the same key has been made within the window.
+     * @param key The key identifying the send, or <code>null</code> to always send
+     * @param endpoint The API wrapper to send with
+     * @param call The send to make
+     * @return The acknowledgement of the send, or of the original send if this is a duplicate
+     * @throws CreateSendException If the send, or the original send still in flight, failed
+     */
+    public <E> MessageSent[] send(String key, E endpoint, ApiCall<? super E, MessageSent[]> call)
+        throws CreateSendException {
+        if (key == null) {
+            return call.call(endpoint);
+        }
+
+        Key hashed = new Key(key);
+        CompletableFuture<MessageSent[]> original;
+        CompletableFuture<MessageSent[]> future = null;
+        synchronized (this) {
+            rotate();
+            original = current.get(hashed);
+            if (original == null) {
+                original = previous.get(hashed);
+            }
+
+            if (original == null) {
+                future = new CompletableFuture<MessageSent[]>();
+                current.put(hashed, future);
+            } else {
+                suppressed++;
+            }
+        }
+
+        if (original != null) {
+            return await(original);
+        }
+
+        try {
+            MessageSent[] result = call.call(endpoint);
+            future.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // Errors are caught too, or duplicates waiting on the future would wait forever
+            forget(hashed, future);
+            future.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    /**
+     * @return The number of duplicate sends suppressed.
+     */
+    public synchronized long getSuppressedCount() {
+        return suppressed;
+    }
+
+    /**
+     * @return The number of sends currently remembered.
+     */
+    public synchronized int size() {
+        return current.size() + previous.size();
+    }
+
+    private void rotate() {
+        long now = System.nanoTime();
+        long elapsed = now - rotated;
+        if (elapsed >= window || current.size() >= maxGenerationSize) {
+            previous = elapsed >= 2 * window ? new HashMap<Key, CompletableFuture<MessageSent[]>>() : current;
+            current = new HashMap<Key, CompletableFuture<MessageSent[]>>();
+            rotated = now;
+        }
+    }
+
+    private synchronized void forget(Key key, CompletableFuture<MessageSent[]> future) {
+        current.remove(key, future);
+        previous.remove(key, future);
+    }
+
+    private static MessageSent[] await(CompletableFuture<MessageSent[]> original) throws CreateSendException {
+        try {
+            return original.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CreateSendException("Interrupted while waiting for a duplicate send");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CreateSendException) {
+                throw (CreateSendException)cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException("The original send failed", cause);
+        }
+    }
+
+    private static class Key {
+        private final long high;
+        private final long low;
+
+        Key(String key) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(key.getBytes(StandardCharsets.UTF_8)));
+                this.high = digest.getLong();
+                this.low = digest.getLong();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)o;
+            return high == other.high && low == other.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int)(low ^ (low >>> 32));
+        }
+    }
+}
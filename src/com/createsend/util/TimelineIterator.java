@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.createsend.models.transactional.response.MessageLogItem;
+import com.createsend.util.exceptions.CreateSendException;
+import com.createsend.util.exceptions.UncheckedCreateSendException;
+
+/**
+ * Iterates over the transactional delivery log, following the cursor from one window of
+ * messages to the next.
+ *
+ * An iterator created with {@link #history(TimelineFetcher, Executor)} walks back through the
+ * log from the newest message, passing the oldest message of each window as the sentBeforeID
+ * of the next. The next window is fetched on the executor as soon as the current one arrives,
+ * so it downloads while the current window is consumed. Iteration ends at the first empty window.
+ *
+ * An iterator created with {@link #tail(TimelineFetcher, UUID, long, long)} follows new messages
+ * as they are sent, oldest first, by polling with the newest message seen as the sentAfterID.
+ * It polls again straight away while new messages keep arriving, and otherwise backs off
+ * exponentially between the minimum and maximum poll intervals. {@link #hasNext()} blocks until
+ * a message arrives, and returns <code>false</code> only once the thread is interrupted.
+ *
+ * An API error while fetching a window is thrown from {@link #hasNext()} or {@link #next()}
+ * as an {@link UncheckedCreateSendException}.
+ */
+public class TimelineIterator implements Iterator<MessageLogItem> {
+    private final TimelineFetcher fetcher;
+    private final Executor executor;
+    private final boolean tail;
+    private final long minPollInterval;
+    private final long maxPollInterval;
+
+    private CompletableFuture<MessageLogItem[]> pending;
+    private UUID cursor;
+    private boolean started;
+    private boolean finished;
+    private long pollInterval;
+    private MessageLogItem[] window;
+    private int index;
+    private int step;
+
+    private TimelineIterator(TimelineFetcher fetcher, Executor executor, boolean tail,
+        UUID cursor, long minPollInterval, long maxPollInterval) {
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.tail = tail;
+        this.cursor = cursor;
+        this.minPollInterval = minPollInterval;
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    /**
+     * Creates an iterator over every message in the log, newest first.
+     * @param fetcher Fetches a window of the log
+     * @param executor The executor to fetch the next window on, or <code>null</code> to fetch
+     * each window when it is needed
+     * @return The iterator
+     */
+    public static TimelineIterator history(TimelineFetcher fetcher, Executor executor) {
+        return new TimelineIterator(fetcher, executor, false, null, 0, 0);
+    }
+
+    /**
+     * Creates an iterator following new messages in the log, oldest first.
+     * @param fetcher Fetches a window of the log
+     * @param sentAfterID The message to follow on from, or <code>null</code> to start after the
+     * newest message currently in the log
+     * @param minPollInterval The shortest time in milliseconds to wait before polling again
+     * after finding no new messages
+     * @param maxPollInterval The longest time in milliseconds to wait between polls
+     * @return The iterator
+     */
+    public static TimelineIterator tail(TimelineFetcher fetcher, UUID sentAfterID,
+        long minPollInterval, long maxPollInterval) {
+        if (minPollInterval <= 0 || maxPollInterval < minPollInterval) {
+            throw new IllegalArgumentException("Poll intervals must satisfy 0 < minPollInterval <= maxPollInterval");
+        }
+        return new TimelineIterator(fetcher, null, true, sentAfterID, minPollInterval, maxPollInterval);
+    }
+
+    /**
+     * @return A sequential stream of the messages this iterator returns.
+     */
+    public Stream<MessageLogItem> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (window == null || index < 0 || index >= window.length) {
+            if (finished) {
+                return false;
+            }
+
+            MessageLogItem[] next = tail ? poll() : nextWindow();
+            if (next == null) {
+                return false;
+            }
+
+            window = next;
+            // Tail windows are returned oldest first
+            index = tail ? next.length - 1 : 0;
+            step = tail ? -1 : 1;
+        }
+        return true;
+    }
+
+    @Override
+    public MessageLogItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        MessageLogItem item = window[index];
+        index += step;
+        return item;
+    }
+
+    private MessageLogItem[] nextWindow() {
+        MessageLogItem[] next = pending == null ? fetch(cursor, null) : await(pending);
+        pending = null;
+        if (next == null || next.length == 0) {
+            finished = true;
+            return null;
+        }
+
+        cursor = next[next.length - 1].getMessageID();
+        if (executor != null) {
+            final UUID before = cursor;
+            pending = CompletableFuture.supplyAsync(() -> fetch(before, null), executor);
+        }
+        return next;
+    }
+
+    private MessageLogItem[] poll() {
+        if (!started) {
+            started = true;
+            if (cursor == null) {
+                MessageLogItem[] newest = fetch(null, null);
+                if (newest != null && newest.length > 0) {
+                    cursor = newest[0].getMessageID();
+                }
+            }
+        }
+
+        while (true) {
+            if (pollInterval > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollInterval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    finished = true;
+                    return null;
+                }
+            }
+
+            MessageLogItem[] next = cursor == null ? fetch(null, null) : fetch(null, cursor);
+            if (next != null && next.length > 0) {
+                cursor = next[0].getMessageID();
+                pollInterval = 0;
+                return next;
+            }
+
+            pollInterval = pollInterval == 0 ? minPollInterval : Math.min(maxPollInterval, pollInterval * 2);
+        }
+    }
+
+    private MessageLogItem[] fetch(UUID sentBeforeID, UUID sentAfterID) {
+        try {
+            return fetcher.fetch(sentBeforeID, sentAfterID);
+        } catch (CreateSendException e) {
+            throw new UncheckedCreateSendException(e);
+        }
+    }
+
+    private MessageLogItem[] await(CompletableFuture<MessageLogItem[]> window) {
+        try {
+            return window.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw e;
+        }
+    }
+}
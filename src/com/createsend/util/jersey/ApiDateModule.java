@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util.jersey;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * A Jackson module reading API dates with {@link ApiDates}, so dates are parsed without
+ * sharing formatter state between threads. Besides {@link Date}, model properties may be
+ * declared as {@link Instant} or {@link OffsetDateTime}.
+ */
+public class ApiDateModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public ApiDateModule() {
+        super("ApiDateModule");
+        addDeserializer(Date.class, new DateDeserializer());
+        addDeserializer(Instant.class, new InstantDeserializer());
+        addDeserializer(OffsetDateTime.class, new OffsetDateTimeDeserializer());
+    }
+
+    private static abstract class ApiDateDeserializer<T> extends StdScalarDeserializer<T> {
+        private static final long serialVersionUID = 1L;
+
+        ApiDateDeserializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return fromEpochMillis(p.getLongValue());
+            }
+
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                @SuppressWarnings("unchecked")
+                T value = (T)ctxt.handleUnexpectedToken(handledType(), p);
+                return value;
+            }
+
+            String text = p.getText();
+            if (text.trim().isEmpty()) {
+                return null;
+            }
+
+            try {
+                return parse(text);
+            } catch (IllegalArgumentException e) {
+                @SuppressWarnings("unchecked")
+                T value = (T)ctxt.handleWeirdStringValue(handledType(), text, e.getMessage());
+                return value;
+            }
+        }
+
+        abstract T parse(String text);
+
+        abstract T fromEpochMillis(long millis);
+    }
+
+    private static class DateDeserializer extends ApiDateDeserializer<Date> {
+        private static final long serialVersionUID = 1L;
+
+        DateDeserializer() {
+            super(Date.class);
+        }
+
+        Date parse(String text) {
+            return ApiDates.parseDate(text);
+        }
+
+        Date fromEpochMillis(long millis) {
+            return new Date(millis);
+        }
+    }
+
+    private static class InstantDeserializer extends ApiDateDeserializer<Instant> {
+        private static final long serialVersionUID = 1L;
+
+        InstantDeserializer() {
+            super(Instant.class);
+        }
+
+        Instant parse(String text) {
+            return ApiDates.parseInstant(text);
+        }
+
+        Instant fromEpochMillis(long millis) {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private static class OffsetDateTimeDeserializer extends ApiDateDeserializer<OffsetDateTime> {
+        private static final long serialVersionUID = 1L;
+
+        OffsetDateTimeDeserializer() {
+            super(OffsetDateTime.class);
+        }
+
+        OffsetDateTime parse(String text) {
+            return ApiDates.parseOffsetDateTime(text);
+        }
+
+        OffsetDateTime fromEpochMillis(long millis) {
+            return OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util.jersey;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+
+/**
+ * Thread safe parsing and formatting of the dates used by the API.
+ *
+ * Dates are parsed from either <code>yyyy-MM-dd HH:mm:ss</code>, taken to be in the JVM's
+ * default timezone, or ISO 8601 with an offset such as <code>yyyy-MM-dd'T'HH:mm:ss+10:00</code>.
+ * Seconds, fractions of a second and the offset are optional in either form. Parsing reads
+ * the digits directly, so it keeps no formatter state and allocates nothing beyond its result.
+ */
+public final class ApiDates {
+    private static final ZoneId zone = ZoneId.systemDefault();
+    private static final ZoneRules zoneRules = zone.getRules();
+    private static final DateTimeFormatter dateTimeFormat =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(zone);
+    private static final DateTimeFormatter dayFormat =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(zone);
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    private ApiDates() {
+    }
+
+    /**
+     * @param date The date to format
+     * @return The date in the <code>yyyy-MM-dd HH:mm</code> form expected in API requests
+     */
+    public static String format(Date date) {
+        return dateTimeFormat.format(date.toInstant());
+    }
+
+    /**
+     * @param date The date to format
+     * @return The day of the date in the <code>yyyy-MM-dd</code> form expected in API requests
+     */
+    public static String formatDay(Date date) {
+        return dayFormat.format(date.toInstant());
+    }
+
+    /**
+     * @param text A date returned by the API
+     * @return The date
+     * @throws IllegalArgumentException If the text is not a date in either API format
+     */
+    public static Date parseDate(String text) {
+        return new Date(parseEpochMillis(text));
+    }
+
+    /**
+     * @param text A date returned by the API
+     * @return The instant of the date
+     * @throws IllegalArgumentException If the text is not a date in either API format
+     */
+    public static Instant parseInstant(String text) {
+        return Instant.ofEpochMilli(parseEpochMillis(text));
+    }
+
+    /**
+     * @param text A date returned by the API
+     * @return The date with its offset, which is that of the JVM's default timezone at
+     * the time if the text has none
+     * @throws IllegalArgumentException If the text is not a date in either API format
+     */
+    public static OffsetDateTime parseOffsetDateTime(String text) {
+        int[] offset = new int[1];
+        Instant instant = Instant.ofEpochMilli(parse(text, offset));
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(offset[0]));
+    }
+
+    /**
+     * @param text A date returned by the API
+     * @return The milliseconds since the epoch of the date
+     * @throws IllegalArgumentException If the text is not a date in either API format
+     */
+    public static long parseEpochMillis(String text) {
+        return parse(text, null);
+    }
+
+    /**
+     * @param offsetUsed If not <code>null</code>, receives the offset in seconds the date was taken to be in
+     */
+    private static long parse(String text, int[] offsetUsed) {
+        String s = text.trim();
+        int length = s.length();
+        if (length < 16 || s.charAt(4) != '-' || s.charAt(7) != '-' ||
+            (s.charAt(10) != ' ' && s.charAt(10) != 'T') || s.charAt(13) != ':') {
+            throw invalid(text);
+        }
+
+        int year = digits(s, 0, 4, text);
+        int month = digits(s, 5, 2, text);
+        int day = digits(s, 8, 2, text);
+        int hour = digits(s, 11, 2, text);
+        int minute = digits(s, 14, 2, text);
+        int second = 0;
+        int nanos = 0;
+
+        int i = 16;
+        if (i < length && s.charAt(i) == ':') {
+            if (i + 3 > length) {
+                throw invalid(text);
+            }
+            second = digits(s, i + 1, 2, text);
+            i += 3;
+
+            if (i < length && s.charAt(i) == '.') {
+                int scale = 100000000;
+                for (i++; i < length && Character.isDigit(s.charAt(i)); i++) {
+                    nanos += (s.charAt(i) - '0') * scale;
+                    scale /= 10;
+                }
+            }
+        }
+
+        if (month < 1 || month > 12 || day < 1 || day > 31 || hour > 23 || minute > 59 || second > 59) {
+            throw invalid(text);
+        }
+
+        int offset = NO_OFFSET;
+        if (i < length) {
+            offset = parseOffsetSeconds(s, i);
+            if (offset == NO_OFFSET) {
+                throw invalid(text);
+            }
+        }
+
+        long epochSecond = daysFromCivil(year, month, day) * 86400L + hour * 3600 + minute * 60 + second;
+        if (offset == NO_OFFSET) {
+            offset = getDefaultOffset(year, month, day, hour, minute, second);
+        }
+
+        if (offsetUsed != null) {
+            offsetUsed[0] = offset;
+        }
+        return (epochSecond - offset) * 1000 + nanos / 1000000;
+    }
+
+    /**
+     * @return The offset in seconds of the default timezone at a local time. Times repeated
+     * when clocks go back are taken to be after the transition, as SimpleDateFormat does.
+     */
+    private static int getDefaultOffset(int year, int month, int day, int hour, int minute, int second) {
+        if (zoneRules.isFixedOffset()) {
+            return zoneRules.getOffset(Instant.EPOCH).getTotalSeconds();
+        }
+
+        LocalDateTime local = LocalDateTime.of(year, month, day, hour, minute, second);
+        ZoneOffsetTransition transition = zoneRules.getTransition(local);
+        if (transition != null && transition.isOverlap()) {
+            return transition.getOffsetAfter().getTotalSeconds();
+        }
+        return zoneRules.getOffset(local).getTotalSeconds();
+    }
+
+    /**
+     * @return The offset in seconds written from the given index to the end of the text,
+     * as Z, +hh:mm, +hhmm or +hh, or {@link #NO_OFFSET} if it is not a valid offset.
+     */
+    private static int parseOffsetSeconds(String s, int start) {
+        int length = s.length();
+        char sign = s.charAt(start);
+        if (sign == 'Z' && start + 1 == length) {
+            return 0;
+        }
+
+        if (sign != '+' && sign != '-') {
+            return NO_OFFSET;
+        }
+
+        int remaining = length - start - 1;
+        int hours, minutes = 0;
+        try {
+            hours = digits(s, start + 1, 2, s);
+            if (remaining == 5 && s.charAt(start + 3) == ':') {
+                minutes = digits(s, start + 4, 2, s);
+            } else if (remaining == 4) {
+                minutes = digits(s, start + 3, 2, s);
+            } else if (remaining != 2) {
+                return NO_OFFSET;
+            }
+        } catch (IllegalArgumentException e) {
+            return NO_OFFSET;
+        }
+
+        int seconds = hours * 3600 + minutes * 60;
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    private static int digits(String s, int start, int count, String text) {
+        if (start + count > s.length()) {
+            throw invalid(text);
+        }
+
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalid(text);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * @return The number of days since 1970-01-01 of a date in the proleptic Gregorian calendar.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static IllegalArgumentException invalid(String text) {
+        return new IllegalArgumentException("Not a valid API date: " + text);
+    }
+}
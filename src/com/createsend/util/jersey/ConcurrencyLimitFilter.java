@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util.jersey;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+import com.createsend.util.ConcurrencyLimiter;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientRequest;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.filter.ClientFilter;
+
+/**
+ * A ClientFilter which holds a slot from a {@link ConcurrencyLimiter} while each request is
+ * in flight, reporting its latency and whether the API appeared overloaded.
+ *
+ * A request is in flight until its response entity has been read to the end or closed, so a
+ * paged result streamed to a handler holds its slot, and its connection, for as long as the
+ * handler takes to consume it. Its latency is measured to the same point.
+ */
+public class ConcurrencyLimitFilter extends ClientFilter {
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public ClientResponse handle(ClientRequest cr) throws ClientHandlerException {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientHandlerException(new InterruptedIOException("Interrupted while waiting for a concurrency slot"));
+        }
+
+        long started = System.nanoTime();
+        boolean overloaded = false;
+        boolean handedOff = false;
+        try {
+            ClientResponse response = getNext().handle(cr);
+            overloaded = response.getStatus() == 429 || response.getStatus() >= 500;
+            if (response.getEntityInputStream() != null) {
+                // Jersey closes the entity stream once the entity has been read, on an error
+                // response and when the response is closed, which releases the slot
+                response.setEntityInputStream(new SlotReleasingInputStream(
+                    response.getEntityInputStream(), started, overloaded));
+                handedOff = true;
+            }
+            return response;
+        } catch (ClientHandlerException e) {
+            overloaded = e.getCause() instanceof IOException;
+            throw e;
+        } finally {
+            if (!handedOff) {
+                limiter.release(System.nanoTime() - started, overloaded);
+            }
+        }
+    }
+
+    /**
+     * A response entity stream which releases the request's slot when it is read to the end
+     * or closed, whichever comes first.
+     */
+    private class SlotReleasingInputStream extends FilterInputStream {
+        private final long started;
+        private boolean overloaded;
+        private boolean released;
+
+        SlotReleasingInputStream(InputStream in, long started, boolean overloaded) {
+            super(in);
+            this.started = started;
+            this.overloaded = overloaded;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int b = super.read();
+                if (b == -1) {
+                    release();
+                }
+                return b;
+            } catch (IOException e) {
+                overloaded = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                int n = super.read(b, off, len);
+                if (n == -1) {
+                    release();
+                }
+                return n;
+            } catch (IOException e) {
+                overloaded = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (!released) {
+                released = true;
+                limiter.release(System.nanoTime() - started, overloaded);
+            }
+        }
+    }
+}
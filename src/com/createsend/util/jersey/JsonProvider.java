@@ -25,60 +25,187 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
+import java.text.FieldPosition;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.createsend.util.Configuration;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
 /**
  * An extension of the Jersey JacksonJsonProvider used to set Jackson 
  * serialisation/deserialisation properties
+ *
+ * Every provider shares one mapper, configured once when the class is loaded. Requests and
+ * responses are written and read with an ObjectWriter or ObjectReader built once per type,
+ * so nothing is configured or looked up again on each call.
  */
 public class JsonProvider extends JacksonJsonProvider {
 
+    /**
+     * Formats dates as <code>yyyy-MM-dd HH:mm</code> and parses both API date formats.
+     * It delegates to {@link ApiDates}, so unlike other DateFormats it is safe to share
+     * between threads.
+     */
     public static final DateFormat ApiDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm") {
-        final SimpleDateFormat ApiDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        final SimpleDateFormat ApiDateFormatTz = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX");
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition pos) {
+            return toAppendTo.append(ApiDates.format(date));
+        }
 
         @Override
         public Date parse(String source, ParsePosition pos) {
-            if (source.length() - pos.getIndex() == ApiDateFormat.toPattern().length())
-                return ApiDateFormat.parse(source, pos);
-            return ApiDateFormatTz.parse(source, pos);
+            try {
+                Date date = ApiDates.parseDate(source.substring(pos.getIndex()));
+                pos.setIndex(source.length());
+                return date;
+            } catch (IllegalArgumentException e) {
+                pos.setErrorIndex(pos.getIndex());
+                return null;
+            }
         }
     };
 
+    private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    private static final ObjectMapper mapper = createObjectMapper();
+    private static final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<Type, ObjectReader>();
+    private static final ConcurrentMap<Type, ObjectWriter> writers = new ConcurrentHashMap<Type, ObjectWriter>();
+
+    public JsonProvider() {
+        super(mapper);
+    }
+
+    /**
+     * @param date The date to format
+     * @return The date in the <code>yyyy-MM-dd HH:mm</code> form expected in API requests
+     */
+    public static String formatDate(Date date) {
+        return ApiDates.format(date);
+    }
+
+    /**
+     * @return A new ObjectMapper configured in the same way as the mapper used to
+     * read and write API requests and responses.
+     */
+    public static ObjectMapper createObjectMapper() {
+        return createObjectMapper(Configuration.Current.isAfterburnerEnabled());
+    }
+
+    /**
+     * @param generatedAccessors Whether to register the Jackson Afterburner module, which
+     * generates bytecode to set and get model properties and to construct models rather
+     * than doing so by reflection. The module is an optional dependency: if
+     * jackson-module-afterburner is not on the classpath models are bound by reflection.
+     * @return A new ObjectMapper configured to read and write API requests and responses.
+     */
+    public static ObjectMapper createObjectMapper(boolean generatedAccessors) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationInclusion(Include.NON_NULL);
+        mapper.setDateFormat(ApiDateFormat);
+        mapper.registerModule(new ApiDateModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        if (generatedAccessors) {
+            Module afterburner = createAfterburnerModule();
+            if (afterburner != null) {
+                mapper.registerModule(afterburner);
+            }
+        }
+        return mapper;
+    }
+
+    /**
+     * @return The Afterburner module, or <code>null</code> if it is not on the classpath.
+     */
+    private static Module createAfterburnerModule() {
+        try {
+            return (Module)Class.forName(AFTERBURNER_MODULE).getConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create " + AFTERBURNER_MODULE, e);
+        }
+    }
+
+    /**
+     * @param type The type to read
+     * @return A reader for the type, created once from the shared, fully configured mapper.
+     */
+    public static ObjectReader readerFor(Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = mapper.readerFor(mapper.constructType(type))
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            ObjectReader existing = readers.putIfAbsent(type, reader);
+            if (existing != null) {
+                reader = existing;
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * @param type The type to write
+     * @return A writer for the type, created once from the shared, fully configured mapper.
+     */
+    public static ObjectWriter writerFor(Type type) {
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = mapper.writerFor(mapper.constructType(type))
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            ObjectWriter existing = writers.putIfAbsent(type, writer);
+            if (existing != null) {
+                writer = existing;
+            }
+        }
+        return writer;
+    }
+
     @Override
     public void writeTo(Object value, Class<?> type, Type genericType,
             Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
-        ObjectMapper mapper = locateMapper(type, mediaType);
-        mapper.setSerializationInclusion(Include.NON_NULL);
-        
-        super.writeTo(value, type, genericType, annotations, mediaType, httpHeaders,
-                entityStream);
+        // Only a generic entity's declared type says more than its runtime class
+        writerFor(genericType instanceof ParameterizedType ? genericType : value.getClass())
+            .writeValue(entityStream, value);
     }
-    
+
     @Override
     public Object readFrom(Class<Object> type, Type genericType,
             Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
             throws IOException {
-        ObjectMapper mapper = locateMapper(type, mediaType);
-        mapper.setDateFormat(ApiDateFormat);
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-
-        return super.readFrom(type, genericType, annotations, mediaType, httpHeaders,
-                entityStream);
+        ObjectReader reader = readerFor(genericType == null ? type : genericType);
+        JsonParser parser = reader.getFactory().createParser(entityStream);
+        try {
+            if (parser.nextToken() == null) {
+                // An empty body
+                return null;
+            }
+            return reader.readValue(parser);
+        } finally {
+            parser.close();
+        }
     }
 }
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util.jersey;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+import com.createsend.util.RetryPolicy;
+import com.createsend.util.StreamingEntity;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientRequest;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.filter.ClientFilter;
+
+/**
+ * A ClientFilter which resends requests failing with a retryable HTTP status or I/O error,
+ * as directed by a {@link RetryPolicy}. Requests whose entity can only be written once
+ * are never resent.
+ *
+ * Jersey links filters together as they are added to a resource, so a new filter must be
+ * created for each resource rather than shared.
+ */
+public class RetryFilter extends ClientFilter {
+    private final RetryPolicy policy;
+
+    public RetryFilter(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public ClientResponse handle(ClientRequest cr) throws ClientHandlerException {
+        if (policy.getMaxAttempts() <= 1 || !policy.isRetryable(cr.getMethod(), cr.getURI()) ||
+            isStreaming(cr.getEntity())) {
+            return getNext().handle(cr);
+        }
+
+        long started = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            ClientResponse response;
+            try {
+                response = getNext().handle(cr);
+            } catch (ClientHandlerException e) {
+                long backoff = policy.getBackoff(attempt, -1);
+                if (!(e.getCause() instanceof IOException) || !canRetry(attempt, started, backoff)) {
+                    throw e;
+                }
+                sleep(backoff);
+                continue;
+            }
+
+            if (!policy.isRetryableStatus(response.getStatus())) {
+                if (attempt > 1) {
+                    policy.recordRecovered();
+                }
+                return response;
+            }
+
+            long backoff = policy.getBackoff(attempt, getRetryAfter(response));
+            if (!canRetry(attempt, started, backoff)) {
+                return response;
+            }
+
+            response.close();
+            sleep(backoff);
+        }
+    }
+
+    private static boolean isStreaming(Object entity) {
+        return entity instanceof InputStream ||
+            (entity instanceof StreamingEntity && ((StreamingEntity)entity).isStreaming());
+    }
+
+    private boolean canRetry(int attempt, long started, long backoff) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        if (attempt >= policy.getMaxAttempts() || elapsed + backoff > policy.getMaxElapsed()) {
+            if (attempt > 1) {
+                policy.recordExhausted();
+            }
+            return false;
+        }
+
+        policy.recordRetry();
+        return true;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientHandlerException(new InterruptedIOException("Interrupted while waiting to retry"));
+        }
+    }
+
+    /**
+     * @return The delay in milliseconds requested by the Retry-After header of the response,
+     * or -1 if there is no valid header.
+     */
+    static long getRetryAfter(ClientResponse response) {
+        String retryAfter = response.getHeaders().getFirst("Retry-After");
+        if (retryAfter == null) {
+            return -1;
+        }
+
+        retryAfter = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(retryAfter) * 1000);
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, so try an HTTP-date
+        }
+
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -47,7 +47,7 @@ public class UserAgentFilter extends ClientFilter {
     
     @Override
     public ClientResponse handle(ClientRequest cr) throws ClientHandlerException {
-        cr.getHeaders().add("User-Agent", userAgent);
+        cr.getHeaders().putSingle("User-Agent", userAgent);
         return getNext().handle(cr);
     }
 }
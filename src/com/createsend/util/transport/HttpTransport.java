@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util.transport;
+
+import java.util.Map;
+
+import com.createsend.util.Configuration;
+import com.createsend.util.jersey.JsonProvider;
+import com.createsend.util.jersey.UserAgentFilter;
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.config.ClientConfig;
+import com.sun.jersey.api.client.config.DefaultClientConfig;
+import com.sun.jersey.api.client.filter.GZIPContentEncodingFilter;
+import com.sun.jersey.api.client.filter.LoggingFilter;
+
+/**
+ * The HTTP transport used by {@link com.createsend.util.JerseyClientImpl} to talk to the API.
+ * A transport owns a configured Jersey {@link Client} along with whatever connection
+ * management sits underneath it.
+ *
+ * As per the Jersey docs the creation of a Client is expensive, so transports should be
+ * created once and shared between all API wrappers.
+ */
+public abstract class HttpTransport {
+
+    /**
+     * Creates the transport configured in the createsend.transport property.
+     * @return A {@link PooledHttpTransport} when the property is <code>pooled</code>,
+     * otherwise a {@link UrlConnectionTransport}.
+     */
+    public static HttpTransport fromConfiguration() {
+        if ("pooled".equalsIgnoreCase(Configuration.Current.getTransport())) {
+            return new PooledHttpTransport();
+        }
+        return new UrlConnectionTransport();
+    }
+
+    /**
+     * @return The Jersey client to use to create resources.
+     */
+    public abstract Client getClient();
+
+    /**
+     * Releases any connections or background threads held by this transport.
+     * The transport must not be used after it has been shut down.
+     */
+    public void shutdown() {
+        getClient().destroy();
+    }
+
+    /**
+     * @return A client configuration with the JSON provider registered and the settings
+     * the wrapper relies on.
+     */
+    protected static ClientConfig createClientConfig() {
+        ClientConfig cc = new DefaultClientConfig();
+        cc.getClasses().add(JsonProvider.class);
+
+        Map<String, Object> properties = cc.getProperties();
+        properties.put(ClientConfig.PROPERTY_CHUNKED_ENCODING_SIZE, 64 * 1024);
+        properties.put(ClientConfig.PROPERTY_FOLLOW_REDIRECTS, false);
+        properties.put(com.sun.jersey.api.json.JSONConfiguration.FEATURE_POJO_MAPPING, "true");
+        return cc;
+    }
+
+    /**
+     * Adds the filters every request made by the wrapper passes through.
+     * @param client The client to configure
+     */
+    protected static void addDefaultFilters(Client client) {
+        if (Configuration.Current.isLoggingEnabled()) {
+            client.addFilter(new LoggingFilter(System.out));
+        }
+
+        client.addFilter(new GZIPContentEncodingFilter(false));
+        client.addFilter(new UserAgentFilter());
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util.transport;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import com.createsend.util.Configuration;
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.client.apache4.ApacheHttpClient4Handler;
+
+/**
+ * A transport backed by a pool of keep-alive connections managed by Apache HttpClient.
+ * Connections (and their TLS sessions) are reused across requests, the number of
+ * connections to the API host is bounded and idle connections are evicted in the
+ * background.
+ */
+public class PooledHttpTransport extends HttpTransport {
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final Client client;
+
+    /**
+     * Creates a transport using the pool settings and timeouts from the current {@link Configuration}.
+     */
+    public PooledHttpTransport() {
+        this(Configuration.Current.getMaxConnectionsPerRoute(),
+             Configuration.Current.getMaxConnections(),
+             Configuration.Current.getConnectTimeout(),
+             Configuration.Current.getReadTimeout(),
+             Configuration.Current.getIdleConnectionTimeout());
+    }
+
+    /**
+     * @param maxConnectionsPerRoute The maximum number of connections to a single host.
+     * @param maxConnections The maximum number of connections across all hosts.
+     * @param connectTimeout The connect timeout in milliseconds. This is also the longest a
+     * request will wait for a connection from the pool. Zero means no timeout.
+     * @param readTimeout The read timeout in milliseconds. Zero means no timeout.
+     * @param idleConnectionTimeout How long in milliseconds a connection may sit idle in the
+     * pool before it is closed.
+     */
+    public PooledHttpTransport(int maxConnectionsPerRoute, int maxConnections,
+            int connectTimeout, int readTimeout, long idleConnectionTimeout) {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setMaxTotal(maxConnections);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .build();
+
+        // Redirects, cookies and compression are left to Jersey so both transports
+        // behave the same way.
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .disableRedirectHandling()
+                .disableCookieManagement()
+                .disableContentCompression()
+                .evictExpiredConnections()
+                .evictIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS)
+                .build();
+
+        client = new Client(new ApacheHttpClient4Handler(httpClient, null, false), createClientConfig());
+        addDefaultFilters(client);
+    }
+
+    @Override
+    public Client getClient() {
+        return client;
+    }
+
+    /**
+     * @return The number of leased, pending and available connections in the pool.
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void shutdown() {
+        client.destroy();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            // The pool is being discarded, nothing more to do
+        }
+    }
+}
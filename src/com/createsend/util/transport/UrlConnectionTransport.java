@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026 Campaign Monitor
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *  
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ *  
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+package com.createsend.util.transport;
+
+import com.createsend.util.Configuration;
+import com.sun.jersey.api.client.Client;
+
+/**
+ * The default transport, using Jersey's {@link java.net.HttpURLConnection} based handler.
+ * Connection reuse is left to the JDK keep-alive cache, which can be sized with the
+ * <code>http.maxConnections</code> system property.
+ */
+public class UrlConnectionTransport extends HttpTransport {
+    private final Client client;
+
+    /**
+     * Creates a transport using the timeouts from the current {@link Configuration}.
+     */
+    public UrlConnectionTransport() {
+        this(Configuration.Current.getConnectTimeout(), Configuration.Current.getReadTimeout());
+    }
+
+    /**
+     * @param connectTimeout The connect timeout in milliseconds. Zero means no timeout.
+     * @param readTimeout The read timeout in milliseconds. Zero means no timeout.
+     */
+    public UrlConnectionTransport(int connectTimeout, int readTimeout) {
+        client = Client.create(createClientConfig());
+        client.setFollowRedirects(false);
+        client.setConnectTimeout(connectTimeout);
+        client.setReadTimeout(readTimeout);
+
+        addDefaultFilters(client);
+    }
+
+    @Override
+    public Client getClient() {
+        return client;
+    }
+}